@@ -0,0 +1,44 @@
+package com.bloxbean.cardano.yaci.test.api;
+
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.plutus.spec.BigIntPlutusData;
+import com.bloxbean.cardano.yaci.test.api.helper.Balances;
+import com.bloxbean.cardano.yaci.test.api.helper.SyntheticUtxos;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chained {@link UtxoListAssert} assertions over synthetic utxo sets. Every assertion passes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UtxoListAssertBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int utxoCount;
+
+    private List<Utxo> utxos;
+    private BigInteger lovelace;
+    private BigInteger assetBalance;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        utxos = SyntheticUtxos.generate("addr_test1_benchmark", utxoCount);
+        Balances balances = Balances.of(utxos);
+        lovelace = balances.lovelace();
+        assetBalance = balances.get(SyntheticUtxos.unit(0, 0));
+    }
+
+    @Benchmark
+    public UtxoListAssert chainedAssertions() {
+        return UtxoListAssert.of(utxos)
+                .hasLovelaceBalance(lovelace)
+                .hasAssetBalance(SyntheticUtxos.policyId(0), SyntheticUtxos.assetName(0), assetBalance)
+                .containsMultiAsset(SyntheticUtxos.policyId(0), SyntheticUtxos.assetName(0))
+                .containsInlineDatum(BigIntPlutusData.of(0));
+    }
+}
@@ -0,0 +1,71 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.plutus.spec.PlutusData;
+import com.bloxbean.cardano.client.transaction.spec.Value;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Balance and datum helpers of {@link YaciTestHelper} and {@link TransactionHelper} over synthetic utxo sets
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HelperBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int utxoCount;
+
+    private List<Utxo> utxos;
+    private List<Amount> amounts;
+    private String unit;
+    //Decodes every datum on every call
+    private final InlineDatumDecoder uncachedDecoder = new InlineDatumDecoder(0);
+    //Holds all SyntheticUtxos.NO_OF_DATUMS datums after setup, so every lookup is a cache hit
+    private InlineDatumDecoder cachedDecoder;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        utxos = SyntheticUtxos.generate("addr_test1_benchmark", utxoCount);
+        amounts = YaciTestHelper.amounts(utxos);
+        unit = SyntheticUtxos.unit(0, 0);
+        cachedDecoder = new InlineDatumDecoder(InlineDatumDecoder.DEFAULT_CACHE_SIZE);
+        cachedDecoder.decode(utxos, datum -> true);
+    }
+
+    @Benchmark
+    public List<Amount> amounts() {
+        return YaciTestHelper.amounts(utxos);
+    }
+
+    @Benchmark
+    public Balances balances() {
+        return YaciTestHelper.balances(utxos);
+    }
+
+    @Benchmark
+    public Optional<BigInteger> assetBalance() {
+        return YaciTestHelper.assetBalance(unit, YaciTestHelper.amounts(utxos));
+    }
+
+    @Benchmark
+    public List<PlutusData> inlineDatums() {
+        return uncachedDecoder.decode(utxos, datum -> true);
+    }
+
+    @Benchmark
+    public List<PlutusData> inlineDatumsCached() {
+        return cachedDecoder.decode(utxos, datum -> true);
+    }
+
+    @Benchmark
+    public Value getValue() {
+        return TransactionHelper.getValue(amounts);
+    }
+}
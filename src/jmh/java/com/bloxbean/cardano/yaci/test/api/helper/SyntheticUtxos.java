@@ -0,0 +1,69 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.api.util.AssetUtil;
+import com.bloxbean.cardano.client.plutus.spec.BigIntPlutusData;
+import com.bloxbean.cardano.client.transaction.spec.Asset;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
+
+/**
+ * Deterministic utxo sets for benchmarks. Every 4th utxo holds a token of one of {@link #NO_OF_POLICIES} policies
+ * and every 2nd utxo has an inline datum out of {@link #NO_OF_DATUMS} distinct datums.
+ */
+public class SyntheticUtxos {
+    public static final int NO_OF_POLICIES = 8;
+    public static final int NO_OF_ASSET_NAMES = 256;
+    public static final int NO_OF_DATUMS = 1000;
+
+    private static final String[] POLICIES = new String[NO_OF_POLICIES];
+    private static final String[] DATUMS = new String[NO_OF_DATUMS];
+
+    static {
+        for (int i = 0; i < NO_OF_POLICIES; i++) {
+            POLICIES[i] = String.format("%056x", i + 1);
+        }
+        for (int i = 0; i < NO_OF_DATUMS; i++) {
+            DATUMS[i] = BigIntPlutusData.of(i).serializeToHex();
+        }
+    }
+
+    private SyntheticUtxos() {
+    }
+
+    public static List<Utxo> generate(String address, int count) {
+        List<Utxo> utxos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<Amount> amounts = new ArrayList<>(2);
+            amounts.add(new Amount(LOVELACE, BigInteger.valueOf(2_000_000L + i)));
+            if (i % 4 == 0)
+                amounts.add(new Amount(unit(i % NO_OF_POLICIES, i % NO_OF_ASSET_NAMES), BigInteger.valueOf(i + 1)));
+
+            utxos.add(Utxo.builder()
+                    .address(address)
+                    .txHash(String.format("%064x", i))
+                    .outputIndex(i % 4)
+                    .amount(amounts)
+                    .inlineDatum(i % 2 == 0 ? DATUMS[(i / 2) % NO_OF_DATUMS] : null)
+                    .build());
+        }
+        return utxos;
+    }
+
+    public static String policyId(int policy) {
+        return POLICIES[policy];
+    }
+
+    public static String assetName(int assetName) {
+        return "token" + assetName;
+    }
+
+    public static String unit(int policy, int assetName) {
+        return AssetUtil.getUnit(policyId(policy), new Asset(assetName(assetName), BigInteger.ZERO));
+    }
+}
@@ -0,0 +1,113 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.account.Account;
+import com.bloxbean.cardano.client.api.ProtocolParamsSupplier;
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.ProtocolParams;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.api.util.PolicyUtil;
+import com.bloxbean.cardano.client.common.model.Networks;
+import com.bloxbean.cardano.client.transaction.spec.Policy;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.yaci.test.YaciCardanoContainer;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.bloxbean.cardano.client.function.helper.SignerProviders.signerFrom;
+
+/**
+ * Transaction build and sign throughput of {@link TransactionHelper} through TxBuilderContext. The container is
+ * never started. Utxos and protocol params are served from memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TxBuildBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int senderUtxoCount;
+
+    private YaciTestHelper testHelper;
+    private UtxoSupplier utxoSupplier;
+    private Account sender;
+    private String receiver;
+    private Policy policy;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        sender = new Account(Networks.testnet());
+        receiver = new Account(Networks.testnet()).baseAddress();
+        policy = PolicyUtil.createMultiSigScriptAllPolicy("BenchmarkPolicy", 1);
+        utxoSupplier = new InMemoryUtxoSupplier(SyntheticUtxos.generate(sender.baseAddress(), senderUtxoCount));
+
+        ProtocolParams protocolParams = protocolParams();
+        testHelper = new YaciTestHelper(new YaciCardanoContainer() {
+            @Override
+            public ProtocolParamsSupplier getProtocolParamsSupplier() {
+                return () -> protocolParams;
+            }
+        });
+    }
+
+    @Benchmark
+    public Transaction transferAda() {
+        return testHelper.buildTransferAdaTx(utxoSupplier, sender.baseAddress(), signerFrom(sender), receiver,
+                BigDecimal.TEN);
+    }
+
+    @Benchmark
+    public Transaction mintToken() {
+        return testHelper.buildMintTokenTx(utxoSupplier, sender.baseAddress(), signerFrom(sender), receiver,
+                "BenchmarkToken", BigInteger.valueOf(1000), policy);
+    }
+
+    /**
+     * Devnet protocol params relevant for fee and min ada calculation
+     */
+    private static ProtocolParams protocolParams() {
+        ProtocolParams protocolParams = new ProtocolParams();
+        protocolParams.setMinFeeA(44);
+        protocolParams.setMinFeeB(155381);
+        protocolParams.setMaxTxSize(16384);
+        protocolParams.setMaxValSize("5000");
+        protocolParams.setKeyDeposit("2000000");
+        protocolParams.setPoolDeposit("500000000");
+        protocolParams.setCoinsPerUtxoSize("4310");
+        protocolParams.setCollateralPercent(BigDecimal.valueOf(150));
+        protocolParams.setMaxCollateralInputs(3);
+        protocolParams.setPriceMem(new BigDecimal("0.0577"));
+        protocolParams.setPriceStep(new BigDecimal("0.0000721"));
+        protocolParams.setMinFeeRefScriptCostPerByte(BigDecimal.valueOf(15));
+        return protocolParams;
+    }
+
+    private static class InMemoryUtxoSupplier implements UtxoSupplier {
+        private final List<Utxo> utxos;
+
+        InMemoryUtxoSupplier(List<Utxo> utxos) {
+            this.utxos = utxos;
+        }
+
+        @Override
+        public List<Utxo> getPage(String address, Integer nrOfItems, Integer page, OrderEnum order) {
+            int from = page * nrOfItems;
+            if (from >= utxos.size())
+                return Collections.emptyList();
+            return utxos.subList(from, Math.min(from + nrOfItems, utxos.size()));
+        }
+
+        @Override
+        public Optional<Utxo> getTxOutput(String txHash, int outputIndex) {
+            return utxos.stream()
+                    .filter(utxo -> utxo.getTxHash().equals(txHash) && utxo.getOutputIndex() == outputIndex)
+                    .findFirst();
+        }
+    }
+}
@@ -1,28 +1,38 @@
 package com.bloxbean.cardano.yaci.test;
 
+import com.bloxbean.cardano.client.account.Account;
 import com.bloxbean.cardano.client.api.ProtocolParamsSupplier;
 import com.bloxbean.cardano.client.api.TransactionProcessor;
 import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.Utxo;
 import com.bloxbean.cardano.client.backend.KupmiosBackendService;
 import com.bloxbean.cardano.client.backend.api.*;
-import com.bloxbean.cardano.client.backend.blockfrost.service.BFBackendService;
-import com.bloxbean.cardano.client.backend.blockfrost.service.BFEpochService;
-import com.bloxbean.cardano.client.backend.blockfrost.service.BFTransactionService;
-import com.bloxbean.cardano.client.backend.blockfrost.service.BFUtxoService;
 import com.bloxbean.cardano.client.backend.kupo.KupoUtxoService;
 import com.bloxbean.cardano.client.backend.ogmios.http.OgmiosEpochService;
+import com.bloxbean.cardano.client.common.model.Networks;
 import com.bloxbean.cardano.yaci.test.api.helper.YaciTestHelper;
+import com.bloxbean.cardano.yaci.test.backend.BackendClients;
+import com.bloxbean.cardano.yaci.test.backend.CachingUtxoSupplier;
+import com.bloxbean.cardano.yaci.test.backend.ChainTipSupplier;
+import com.bloxbean.cardano.yaci.test.backend.TxConfirmationTracker;
+import com.bloxbean.cardano.yaci.test.backend.TxStatusLookup;
+import com.bloxbean.cardano.yaci.test.backend.cluster.LocalClusterClient;
+import com.bloxbean.cardano.yaci.test.backend.metrics.BackendMetrics;
+import com.bloxbean.cardano.yaci.test.backend.metrics.MetricsSnapshot;
+import com.bloxbean.cardano.yaci.test.backend.ogmios.KupoTipSupplier;
 import com.bloxbean.cardano.yaci.test.backend.ogmios.TestOgmiosTransactionService;
+import com.bloxbean.cardano.yaci.test.backend.store.YaciStoreBackend;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.testcontainers.containers.GenericContainer;
-import org.testcontainers.containers.wait.strategy.Wait;
-import org.testcontainers.containers.wait.strategy.WaitAllStrategy;
 import org.testcontainers.containers.wait.strategy.WaitStrategy;
 import org.testcontainers.utility.DockerImageName;
 
 import java.time.Duration;
-import java.util.Arrays;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -32,7 +42,7 @@ import java.util.stream.Collectors;
 @Slf4j
 public class YaciCardanoContainer extends GenericContainer<YaciCardanoContainer> {
     private static final DockerImageName DEFAULT_IMAGE_NAME = DockerImageName.parse("bloxbean/yaci-cli");
-    private static final String DEFAULT_TAG = "0.10.0-preview2";
+    public static final String DEFAULT_TAG = "0.10.0-preview2";
     public static final int STORE_PORT = 8080;
     public static final int CLUSTER_HTTP_PORT = 10000;
     public static final int SUBMIT_API_PORT = 8090;
@@ -43,10 +53,33 @@ public class YaciCardanoContainer extends GenericContainer<YaciCardanoContainer>
     private static float DEFAULT_BLOCK_TIME = 1f;
     private static long DEFAULT_WAIT_TIMEOUT = 120;
 
-    private static long waitTimeout;
+    /**
+     * Mnemonic of the wallet test accounts are derived from. Devnet only, never use it on a public network.
+     */
+    public static final String DEFAULT_TEST_ACCOUNT_MNEMONIC = "flush together outer effort tenant photo waste distance rib grocery aunt broken weather arrow jungle debris finger flee casino doctor group echo baby near";
+    /**
+     * Account index of the first test account. Lower indexes are left to the tests which use the mnemonic directly.
+     */
+    public static final int TEST_ACCOUNT_START_INDEX = 1000;
+
+    private final long waitTimeout;
+    private final float blockTime;
+    private final String sourceImageName;
+    private boolean snapshotEnabled;
+    private Duration confirmationTimeout = TxConfirmationTracker.DEFAULT_TIMEOUT;
 
     private ApiMode apiMode = ApiMode.YACI_STORE;
+    private List<Funding> initialFundings = Collections.emptyList();
+    private String testAccountMnemonic = DEFAULT_TEST_ACCOUNT_MNEMONIC;
+    private int noOfTestAccounts;
+    private long testAccountAdaValue;
+    private List<Account> testAccounts;
     private YaciTestHelper testHelper;
+    private final Map<ApiMode, BackendClients> backendClients = new ConcurrentHashMap<>();
+    //Set by stop() until the next start(). No backend clients are created while it's set.
+    private volatile boolean stopped;
+    private final BackendMetrics metrics = new BackendMetrics();
+    private boolean metricsReport = Boolean.getBoolean("yaci.metrics.report");
 
     public YaciCardanoContainer() {
         this(DEFAULT_IMAGE_NAME.withTag(DEFAULT_TAG));
@@ -56,6 +89,10 @@ public class YaciCardanoContainer extends GenericContainer<YaciCardanoContainer>
         this(DEFAULT_IMAGE_NAME.withTag(tag));
     }
 
+    public YaciCardanoContainer(String tag, float blockTime) {
+        this(DEFAULT_IMAGE_NAME.withTag(tag), blockTime);
+    }
+
     public YaciCardanoContainer(final DockerImageName dockerImageName) {
         this(dockerImageName, DEFAULT_BLOCK_TIME, DEFAULT_WAIT_TIMEOUT);
     }
@@ -67,6 +104,8 @@ public class YaciCardanoContainer extends GenericContainer<YaciCardanoContainer>
     public YaciCardanoContainer(final DockerImageName dockerImageName, float blockTime, long waitTimeout) {
         super(dockerImageName);
         this.waitTimeout = waitTimeout;
+        this.blockTime = blockTime;
+        this.sourceImageName = dockerImageName.asCanonicalNameString();
 
         if (blockTime >= 1 && blockTime <= 20) {
             dockerImageName.assertCompatibleWith(DEFAULT_IMAGE_NAME);
@@ -79,10 +118,33 @@ public class YaciCardanoContainer extends GenericContainer<YaciCardanoContainer>
 
     @Override
     public void start() {
+        stopped = false;
         init();
+        if (snapshotEnabled)
+            useSnapshotImage();
         super.start();
     }
 
+    /**
+     * Start from a snapshot image of an already started devnet. The snapshot is built once per image, api mode,
+     * block time and initial fundings and is kept in the local docker image cache.
+     * See {@link YaciSnapshotImages}
+     *
+     * @return this container
+     */
+    public YaciCardanoContainer withSnapshot() {
+        this.snapshotEnabled = true;
+        return this;
+    }
+
+    private void useSnapshotImage() {
+        setDockerImageName(YaciSnapshotImages.getOrBuild(this));
+
+        //Devnet and fundings are already in the snapshot. Start the existing node.
+        withCommand("start");
+        getEnvMap().remove("topup_addresses");
+    }
+
     private void init() {
         addEnv("yaci_cli_mode", "native");
         addEnv("yaci_store_mode", "native");
@@ -98,23 +160,31 @@ public class YaciCardanoContainer extends GenericContainer<YaciCardanoContainer>
         if (apiMode == ApiMode.YACI_STORE) {
             addEnv("yaci_store_enabled", "true");
             addEnv("ogmios_enabled", "true");
-
-            waitingFor(Wait.forHttp("/api/v1/epochs/parameters")
-                    .forPort(STORE_PORT)
-                    .forStatusCode(200)
-                    .forResponsePredicate(resp -> resp.contains("cost_models") && resp.contains("pool_deposit"))
-                    .withStartupTimeout(Duration.ofSeconds(waitTimeout)));
-            withStartupTimeout(Duration.ofSeconds(waitTimeout));
         } else if (apiMode == ApiMode.OGMIOS) {
             addEnv("ogmios_enabled", "true");
             addEnv("kupo_enabled", "true");
-            waitingFor(Wait.forHttp("/")
-                    .forPort(OGMIOS_PORT)
-                    .forStatusCode(200)
-                    .withStartupTimeout(Duration.ofSeconds(waitTimeout)));
-            withStartupTimeout(Duration.ofSeconds(waitTimeout));
         } else
             throw new IllegalArgumentException("Invalid ApiMode : " + apiMode);
+
+        List<Funding> fundings = getInitialFundings();
+        if (!fundings.isEmpty()) {
+            String topupAddresses = fundings.stream()
+                    .map(funding -> funding.getAddress() + ":" + funding.getAdaValue())
+                    .collect(Collectors.joining(","));
+            addEnv("topup_addresses", topupAddresses);
+        }
+
+        waitingFor(readyWaitStrategy(fundings));
+        withStartupTimeout(Duration.ofSeconds(waitTimeout));
+    }
+
+    private WaitStrategy readyWaitStrategy(List<Funding> fundings) {
+        List<String> fundedAddresses = fundings.stream()
+                .map(Funding::getAddress)
+                .distinct()
+                .collect(Collectors.toList());
+        return new YaciReadyWaitStrategy(apiMode, fundedAddresses)
+                .withStartupTimeout(Duration.ofSeconds(waitTimeout));
     }
 
     public YaciCardanoContainer withApiMode(ApiMode apiMode) {
@@ -122,34 +192,140 @@ public class YaciCardanoContainer extends GenericContainer<YaciCardanoContainer>
         return this;
     }
 
+    /**
+     * Set max time to wait for a submitted transaction to be included in a block
+     * @param confirmationTimeout timeout
+     * @return this container
+     */
+    public YaciCardanoContainer withConfirmationTimeout(@NonNull Duration confirmationTimeout) {
+        this.confirmationTimeout = confirmationTimeout;
+        return this;
+    }
+
+    /**
+     * Log {@link #getMetrics()} report when the container is stopped. Can also be enabled for all containers
+     * with system property "yaci.metrics.report=true".
+     * @param metricsReport true to log the report
+     * @return this container
+     */
+    public YaciCardanoContainer withMetricsReport(boolean metricsReport) {
+        this.metricsReport = metricsReport;
+        return this;
+    }
+
     public YaciCardanoContainer withInitialFunding(Funding... fundings) {
         if (fundings == null || fundings.length == 0)
             return this;
 
-        String topupAddresses = Arrays.stream(fundings)
-                .map(funding -> funding.getAddress() + ":" + funding.getAdaValue())
-                .collect(Collectors.joining(","));
+        this.initialFundings = List.of(fundings);
+        return this;
+    }
 
-        if (apiMode == ApiMode.YACI_STORE) {
-            WaitStrategy waitStrategy = new WaitAllStrategy()
-                    .withStrategy(Wait.forHttp("/api/v1/epochs/parameters")
-                            .forPort(STORE_PORT)
-                            .forStatusCode(200)
-                            .forResponsePredicate(resp -> resp.contains("cost_models") && resp.contains("pool_deposit"))
-                            .withStartupTimeout(Duration.ofSeconds(waitTimeout)))
-                    .withStrategy(Wait.forHttp("/api/v1/addresses/" + fundings[0].getAddress() + "/utxos")
-                            .forPort(STORE_PORT)
-                            .forResponsePredicate(s -> s.contains(fundings[0].getAddress()))
-                            .forStatusCode(200)
-                            .withStartupTimeout(Duration.ofSeconds(waitTimeout)));
-
-            //Override default wait strategy if initial funding
-            waitingFor(waitStrategy);
+    /**
+     * Fund given no of test accounts at devnet start, together with the initial fundings. Test accounts are handed
+     * out one per test by {@link YaciTestHelper#acquireTestAccount()}, so that tests running in parallel don't
+     * compete for the faucet utxos.
+     *
+     * @param noOfAccounts no of accounts funded at start
+     * @param adaValue ada per account
+     * @return this container
+     */
+    public YaciCardanoContainer withTestAccounts(int noOfAccounts, long adaValue) {
+        return withTestAccounts(DEFAULT_TEST_ACCOUNT_MNEMONIC, noOfAccounts, adaValue);
+    }
+
+    /**
+     * Same as {@link #withTestAccounts(int, long)}, but accounts are derived from the given mnemonic
+     *
+     * @param mnemonic mnemonic of the wallet accounts are derived from, starting at {@link #TEST_ACCOUNT_START_INDEX}
+     * @param noOfAccounts no of accounts funded at start
+     * @param adaValue ada per account
+     * @return this container
+     */
+    public YaciCardanoContainer withTestAccounts(@NonNull String mnemonic, int noOfAccounts, long adaValue) {
+        if (noOfAccounts < 0)
+            throw new IllegalArgumentException("No of test accounts can't be negative");
+        if (adaValue <= 0)
+            throw new IllegalArgumentException("Test account ada value should be greater than 0");
+
+        this.testAccountMnemonic = mnemonic;
+        this.noOfTestAccounts = noOfAccounts;
+        this.testAccountAdaValue = adaValue;
+        this.testAccounts = null;
+        return this;
+    }
+
+    public ApiMode getApiMode() {
+        return apiMode;
+    }
+
+    public float getBlockTime() {
+        return blockTime;
+    }
+
+    /**
+     * Returns fundings applied at devnet start, i.e. the fundings from {@link #withInitialFunding(Funding...)}
+     * followed by the test account fundings
+     * @return initial fundings
+     */
+    public List<Funding> getInitialFundings() {
+        if (noOfTestAccounts == 0)
+            return initialFundings;
+
+        List<Funding> fundings = new ArrayList<>(initialFundings);
+        for (Account account : getTestAccounts()) {
+            fundings.add(new Funding(account.baseAddress(), testAccountAdaValue));
         }
+        return Collections.unmodifiableList(fundings);
+    }
 
-        addEnv("topup_addresses", topupAddresses);
+    /**
+     * Returns test accounts funded at devnet start. See {@link #withTestAccounts(int, long)}
+     * @return test accounts
+     */
+    public synchronized List<Account> getTestAccounts() {
+        if (testAccounts == null) {
+            List<Account> accounts = new ArrayList<>(noOfTestAccounts);
+            for (int i = 0; i < noOfTestAccounts; i++) {
+                accounts.add(testAccount(TEST_ACCOUNT_START_INDEX + i));
+            }
+            testAccounts = Collections.unmodifiableList(accounts);
+        }
+        return testAccounts;
+    }
 
-        return this;
+    /**
+     * Derive test account at given index of the test account mnemonic
+     * @param index account index
+     * @return account
+     */
+    public Account testAccount(int index) {
+        return new Account(Networks.testnet(), testAccountMnemonic, index);
+    }
+
+    public int getNoOfTestAccounts() {
+        return noOfTestAccounts;
+    }
+
+    public long getTestAccountAdaValue() {
+        return testAccountAdaValue;
+    }
+
+    /**
+     * Returns yaci-cli image this container is configured with. Differs from {@link #getDockerImageName()} when
+     * the container is started from a snapshot image.
+     * @return image name
+     */
+    public String getSourceImageName() {
+        return sourceImageName;
+    }
+
+    long getWaitTimeout() {
+        return waitTimeout;
+    }
+
+    Duration getConfirmationTimeout() {
+        return confirmationTimeout;
     }
 
     public int getYaciStorePort() {
@@ -202,74 +378,242 @@ public class YaciCardanoContainer extends GenericContainer<YaciCardanoContainer>
     }
 
     public UtxoSupplier getUtxoSupplier() {
-        return new DefaultUtxoSupplier(getUtxoService());
+        return backendClients().getUtxoSupplier();
+    }
+
+    /**
+     * Returns utxo supplier which always reads from the backend. Pages fetched through it are not kept in the utxo
+     * cache, so large addresses can be paged through in bounded memory.
+     */
+    public UtxoSupplier getUncachedUtxoSupplier() {
+        return backendClients().getUtxoSupplier().getDelegate();
     }
 
     public ProtocolParamsSupplier getProtocolParamsSupplier() {
-        return new DefaultProtocolParamsSupplier(getEpochService());
+        return backendClients().getProtocolParamsSupplier();
     }
 
     public TransactionProcessor getTransactionProcessor() {
-        TransactionService transactionService = getTransactionService();
-        return new DefaultTransactionProcessor(transactionService);
+        return backendClients().getTransactionProcessor();
     }
 
     @NotNull
     public EpochService getEpochService() {
-        switch (apiMode) {
-            case YACI_STORE:
-                return new BFEpochService(getYaciStoreApiUrl(), "dummy key");
-            case OGMIOS:
-                return new OgmiosEpochService(getOgmiosHttpUrl());
-            default:
-                throw new IllegalArgumentException("Invalid ApiMode : " + apiMode);
-        }
+        return backendClients().getEpochService();
     }
 
     @NotNull
     public UtxoService getUtxoService() {
-        switch (apiMode) {
-            case YACI_STORE:
-                return new BFUtxoService(getYaciStoreApiUrl(), "dummy key");
-            case OGMIOS:
-                return new KupoUtxoService(getKupoUrl());
-            default:
-                throw new IllegalArgumentException("Invalid ApiMode : " + apiMode);
-        }
+        return backendClients().getUtxoService();
     }
 
     @NotNull
     public TransactionService getTransactionService() {
-        switch (apiMode) {
-            case YACI_STORE:
-                return new BFTransactionService(getYaciStoreApiUrl(), "dummy key");
-            case OGMIOS:
-                return new TestOgmiosTransactionService(getOgmiosHttpUrl(), getKupoUrl());
-            default:
-                throw new IllegalArgumentException("Invalid ApiMode : " + apiMode);
-        }
+        return backendClients().getTransactionService();
     }
 
     @NotNull
     public BackendService getBackendService() {
+        return backendClients().getBackendService();
+    }
+
+    /**
+     * Returns the utxo cache behind {@link #getUtxoSupplier()}. Can be used to check hit / miss counts or to clear
+     * the cache after transactions submitted outside this container's helpers.
+     * @return CachingUtxoSupplier
+     */
+    public CachingUtxoSupplier getUtxoCache() {
+        return backendClients().getUtxoSupplier();
+    }
+
+    /**
+     * Returns {@link ChainTipSupplier} for current {@link ApiMode}
+     * @return ChainTipSupplier
+     */
+    public ChainTipSupplier getChainTipSupplier() {
+        return backendClients().getChainTipSupplier();
+    }
+
+    /**
+     * Returns the shared {@link TxConfirmationTracker} which waits for submitted transactions to be on chain
+     * @return TxConfirmationTracker
+     */
+    public TxConfirmationTracker getTxConfirmationTracker() {
+        return backendClients().getConfirmationTracker();
+    }
+
+    /**
+     * Returns call counts, latencies, payload sizes and error rates of all calls made through the services handed
+     * out by this container, including the calls made by the helpers, suppliers and confirmation tracker
+     * @return metrics snapshot
+     */
+    public MetricsSnapshot getMetrics() {
+        return metrics.snapshot();
+    }
+
+    /**
+     * Clear recorded metrics
+     */
+    public void resetMetrics() {
+        metrics.reset();
+    }
+
+    /**
+     * Returns the backend clients for current {@link ApiMode}. Clients are created on first access and shared
+     * until the container is stopped.
+     *
+     * @throws IllegalStateException if the container is stopped
+     */
+    private BackendClients backendClients() {
+        return backendClients.computeIfAbsent(apiMode, mode -> {
+            if (stopped)
+                throw new IllegalStateException("Container is stopped. Backend clients are not available");
+            return createBackendClients(mode);
+        });
+    }
+
+    private BackendClients createBackendClients(ApiMode apiMode) {
         switch (apiMode) {
-            case YACI_STORE:
-                return new BFBackendService(getYaciStoreApiUrl(), "dummy key");
-            case OGMIOS:
-                return new KupmiosBackendService(getOgmiosHttpUrl(), getKupoUrl());
+            case YACI_STORE: {
+                YaciStoreBackend storeBackend = new YaciStoreBackend(getYaciStoreApiUrl());
+                TransactionService transactionService = metrics.instrument(TransactionService.class,
+                        storeBackend.getTransactionService());
+                ChainTipSupplier chainTipSupplier = metrics.instrument(ChainTipSupplier.class,
+                        storeBackend.getChainTipSupplier());
+                TxStatusLookup statusLookup = metrics.instrument(TxStatusLookup.class,
+                        storeBackend.getTxStatusLookup());
+                return BackendClients.builder()
+                        .apiMode(apiMode)
+                        .utxoService(metrics.instrument(UtxoService.class, storeBackend.getUtxoService()))
+                        .transactionService(transactionService)
+                        .epochService(metrics.instrument(EpochService.class, storeBackend.getEpochService()))
+                        .backendService(metrics.instrument(BackendService.class, storeBackend.getBackendService()))
+                        .chainTipSupplier(chainTipSupplier)
+                        .confirmationTracker(createConfirmationTracker(chainTipSupplier, statusLookup))
+                        .tipCheckInterval(tipCheckInterval())
+                        .build();
+            }
+            case OGMIOS: {
+                TestOgmiosTransactionService ogmiosTransactionService = new TestOgmiosTransactionService(
+                        getOgmiosHttpUrl(), getOgmiosWsUrl(), getKupoUrl());
+                TransactionService transactionService = metrics.instrument(TransactionService.class, ogmiosTransactionService);
+                TxStatusLookup statusLookup = metrics.instrument(TxStatusLookup.class,
+                        ogmiosTransactionService.getKupoClient());
+                ChainTipSupplier chainTipSupplier = metrics.instrument(ChainTipSupplier.class,
+                        new KupoTipSupplier(getKupoUrl()));
+                return BackendClients.builder()
+                        .apiMode(apiMode)
+                        .utxoService(metrics.instrument(UtxoService.class, new KupoUtxoService(getKupoUrl())))
+                        .transactionService(transactionService)
+                        .epochService(metrics.instrument(EpochService.class, new OgmiosEpochService(getOgmiosHttpUrl())))
+                        .backendService(metrics.instrument(BackendService.class, new KupmiosBackendService(getOgmiosHttpUrl(), getKupoUrl())))
+                        .chainTipSupplier(chainTipSupplier)
+                        .confirmationTracker(createConfirmationTracker(chainTipSupplier, statusLookup))
+                        .tipCheckInterval(tipCheckInterval())
+                        .build();
+            }
             default:
                 throw new IllegalArgumentException("Invalid ApiMode : " + apiMode);
         }
     }
 
-    public YaciTestHelper getTestHelper() {
+    private TxConfirmationTracker createConfirmationTracker(ChainTipSupplier chainTipSupplier, TxStatusLookup statusLookup) {
+        return new TxConfirmationTracker(chainTipSupplier, statusLookup, tipCheckInterval(), confirmationTimeout);
+    }
+
+    /**
+     * Check tip a few times per block, so that a new block is seen soon after it is indexed
+     */
+    private Duration tipCheckInterval() {
+        return Duration.ofMillis(Math.max(100, (long) (blockTime * 1000 / 5)));
+    }
+
+    public synchronized YaciTestHelper getTestHelper() {
         if (testHelper == null)
             testHelper = new YaciTestHelper(this);
         return testHelper;
     }
 
+    /**
+     * Reset the devnet to genesis through the local cluster api, so that the running container can be reused
+     * with a clean chain. Backend clients and helper state are dropped, the container's wait strategy is applied
+     * again and initial fundings are topped up if they are not available after the reset.
+     */
+    public void resetDevnet() {
+        log.info("Resetting devnet ...");
+        if (testHelper != null)
+            testHelper.reset();
+        closeBackendClients();
+
+        new LocalClusterClient(getLocalClusterApiUrl()).resetDevnet();
+        //Initial fundings may not be re-applied by the reset. They are checked and topped up below.
+        readyWaitStrategy(Collections.emptyList()).waitUntilReady(this);
+        topupInitialFundings();
+        log.info("Devnet reset done");
+    }
+
+    private void topupInitialFundings() {
+        List<Funding> fundings = getInitialFundings();
+        if (fundings.isEmpty())
+            return;
+
+        LocalClusterClient localClusterClient = new LocalClusterClient(getLocalClusterApiUrl());
+        List<String> pendingAddresses = new ArrayList<>();
+        for (Funding funding : fundings) {
+            if (hasUtxos(funding.getAddress()))
+                continue;
+
+            localClusterClient.topup(funding.getAddress(), funding.getAdaValue());
+            pendingAddresses.add(funding.getAddress());
+        }
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(waitTimeout).toNanos();
+        while (!pendingAddresses.isEmpty()) {
+            pendingAddresses.removeIf(this::hasUtxos);
+            if (pendingAddresses.isEmpty())
+                break;
+            if (System.nanoTime() > deadline)
+                throw new IllegalStateException("Initial funding not found after reset : " + pendingAddresses);
+
+            try {
+                Thread.sleep(tipCheckInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for initial funding", e);
+            }
+        }
+    }
+
+    private boolean hasUtxos(String address) {
+        try {
+            List<Utxo> utxos = getUtxoSupplier().getPage(address, 1, 0, OrderEnum.asc);
+            return utxos != null && !utxos.isEmpty();
+        } catch (Exception e) {
+            log.debug("Error while fetching utxos for " + address, e);
+            return false;
+        }
+    }
+
     @Override
     public void stop() {
+        stopped = true;
+        String containerId = getContainerId();
         super.stop();
+        closeBackendClients();
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        if (metricsReport && snapshot.getTotalCalls() > 0)
+            log.info("Backend metrics of container {}:\n{}", containerId, snapshot.report());
+    }
+
+    /**
+     * Remove and close the clients one by one, so that clients created while closing are closed too
+     */
+    private void closeBackendClients() {
+        for (ApiMode mode : new ArrayList<>(backendClients.keySet())) {
+            BackendClients clients = backendClients.remove(mode);
+            if (clients != null)
+                clients.close();
+        }
     }
 }
@@ -0,0 +1,167 @@
+package com.bloxbean.cardano.yaci.test;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * JVM wide pool of running {@link YaciCardanoContainer}s. Containers are keyed by image, {@link ApiMode}, block time,
+ * wait timeout, confirmation timeout and initial fundings, so a test class gets an already running devnet with the
+ * same configuration instead of booting a new one.
+ * <p>
+ * A released container is reset to genesis (see {@link YaciCardanoContainer#resetDevnet()}) before it is handed
+ * out again. Pooled containers are stopped on JVM shutdown and should not be stopped by the tests.
+ * <pre>
+ * container = YaciCardanoContainerPool.acquire(() -&gt; new YaciCardanoContainer().withInitialFunding(...));
+ * ...
+ * YaciCardanoContainerPool.release(container);
+ * </pre>
+ */
+@Slf4j
+public class YaciCardanoContainerPool {
+    private static final Object lock = new Object();
+    private static final Map<PoolKey, Deque<YaciCardanoContainer>> idleContainers = new HashMap<>();
+    private static final Map<YaciCardanoContainer, PoolKey> inUseContainers = new IdentityHashMap<>();
+    private static final Set<YaciCardanoContainer> dirtyContainers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(YaciCardanoContainerPool::stopAll, "yaci-container-pool-shutdown"));
+    }
+
+    private YaciCardanoContainerPool() {
+    }
+
+    /**
+     * Get a running container for the configuration of the container created by the factory. An idle pooled
+     * container with same configuration is reused. Otherwise, the new container is started and added to the pool.
+     *
+     * @param containerFactory creates a configured container. The container should not be started.
+     * @return running container
+     */
+    public static YaciCardanoContainer acquire(@NonNull Supplier<YaciCardanoContainer> containerFactory) {
+        YaciCardanoContainer newContainer = containerFactory.get();
+        PoolKey key = PoolKey.of(newContainer);
+
+        YaciCardanoContainer pooled;
+        while ((pooled = takeIdle(key)) != null) {
+            try {
+                if (isDirty(pooled))
+                    pooled.resetDevnet();
+                log.info("Reusing pooled container {}", pooled.getContainerId());
+                return pooled;
+            } catch (Exception e) {
+                log.warn("Pooled container could not be reset. Stopping it", e);
+                remove(pooled);
+                pooled.stop();
+            }
+        }
+
+        newContainer.start();
+        synchronized (lock) {
+            inUseContainers.put(newContainer, key);
+        }
+        return newContainer;
+    }
+
+    /**
+     * Return a container to the pool. It is reset before the next {@link #acquire(Supplier)}.
+     * @param container container acquired from this pool
+     */
+    public static void release(@NonNull YaciCardanoContainer container) {
+        release(container, true);
+    }
+
+    /**
+     * Return a container to the pool
+     * @param container container acquired from this pool
+     * @param reset true if the devnet should be reset before the next {@link #acquire(Supplier)}. If false, the
+     *              next user sees the chain state left by the previous one.
+     */
+    public static void release(@NonNull YaciCardanoContainer container, boolean reset) {
+        synchronized (lock) {
+            PoolKey key = inUseContainers.remove(container);
+            if (key == null)
+                throw new IllegalArgumentException("Container is not acquired from the pool");
+
+            if (reset)
+                dirtyContainers.add(container);
+            idleContainers.computeIfAbsent(key, k -> new ArrayDeque<>()).push(container);
+        }
+    }
+
+    /**
+     * Returns no of containers (idle and in use) in the pool
+     * @return no of containers
+     */
+    public static int size() {
+        synchronized (lock) {
+            return inUseContainers.size() + idleContainers.values().stream().mapToInt(Deque::size).sum();
+        }
+    }
+
+    /**
+     * Stop all pooled containers
+     */
+    public static void stopAll() {
+        List<YaciCardanoContainer> containers = new ArrayList<>();
+        synchronized (lock) {
+            containers.addAll(inUseContainers.keySet());
+            idleContainers.values().forEach(containers::addAll);
+            inUseContainers.clear();
+            idleContainers.clear();
+            dirtyContainers.clear();
+        }
+
+        for (YaciCardanoContainer container : containers) {
+            try {
+                container.stop();
+            } catch (Exception e) {
+                log.warn("Error while stopping pooled container", e);
+            }
+        }
+    }
+
+    private static YaciCardanoContainer takeIdle(PoolKey key) {
+        synchronized (lock) {
+            Deque<YaciCardanoContainer> idle = idleContainers.get(key);
+            YaciCardanoContainer container = idle != null ? idle.poll() : null;
+            if (container != null)
+                inUseContainers.put(container, key);
+            return container;
+        }
+    }
+
+    private static boolean isDirty(YaciCardanoContainer container) {
+        synchronized (lock) {
+            return dirtyContainers.remove(container);
+        }
+    }
+
+    private static void remove(YaciCardanoContainer container) {
+        synchronized (lock) {
+            inUseContainers.remove(container);
+            dirtyContainers.remove(container);
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class PoolKey {
+        private String image;
+        private ApiMode apiMode;
+        private float blockTime;
+        private long waitTimeout;
+        private Duration confirmationTimeout;
+        private List<Funding> initialFundings;
+
+        static PoolKey of(YaciCardanoContainer container) {
+            return new PoolKey(container.getSourceImageName(), container.getApiMode(), container.getBlockTime(),
+                    container.getWaitTimeout(), container.getConfirmationTimeout(), container.getInitialFundings());
+        }
+    }
+}
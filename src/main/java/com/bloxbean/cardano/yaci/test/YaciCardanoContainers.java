@@ -0,0 +1,111 @@
+package com.bloxbean.cardano.yaci.test;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.containers.ContainerLaunchException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Utility methods to manage multiple independent {@link YaciCardanoContainer}s
+ */
+@Slf4j
+public class YaciCardanoContainers {
+
+    private YaciCardanoContainers() {
+    }
+
+    /**
+     * Start containers concurrently. No of concurrent starts is limited to available processors.
+     *
+     * @param containers containers to start
+     * @return started containers in the given order
+     * @throws ContainerLaunchException if any container fails to start. Other containers are stopped and all failures
+     * are added as suppressed exceptions.
+     */
+    public static List<YaciCardanoContainer> startAll(@NonNull YaciCardanoContainer... containers) {
+        return startAll(Runtime.getRuntime().availableProcessors(), Arrays.asList(containers));
+    }
+
+    /**
+     * Start containers concurrently
+     *
+     * @param parallelism max no of containers started at the same time
+     * @param containers containers to start
+     * @return started containers in the given order
+     * @throws ContainerLaunchException if any container fails to start. Other containers are stopped and all failures
+     * are added as suppressed exceptions.
+     */
+    public static List<YaciCardanoContainer> startAll(int parallelism, @NonNull Collection<YaciCardanoContainer> containers) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism should be at least 1");
+        if (containers.isEmpty())
+            return new ArrayList<>();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, containers.size()), runnable -> {
+            Thread thread = new Thread(runnable, "yaci-container-start-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<YaciCardanoContainer> started = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (YaciCardanoContainer container : containers) {
+                futures.add(executor.submit(container::start));
+            }
+
+            int i = 0;
+            for (YaciCardanoContainer container : containers) {
+                try {
+                    futures.get(i++).get();
+                    started.add(container);
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                    //A failed start may have left a running container behind
+                    stopQuietly(container);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.add(e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (!failures.isEmpty()) {
+            stopAll(started);
+
+            ContainerLaunchException exception = new ContainerLaunchException(
+                    failures.size() + " of " + containers.size() + " containers failed to start");
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+
+        log.info("{} containers started", started.size());
+        return started;
+    }
+
+    /**
+     * Stop containers. Errors are logged and don't stop other containers from being stopped.
+     * @param containers containers to stop
+     */
+    public static void stopAll(@NonNull Collection<YaciCardanoContainer> containers) {
+        containers.forEach(YaciCardanoContainers::stopQuietly);
+    }
+
+    private static void stopQuietly(YaciCardanoContainer container) {
+        try {
+            container.stop();
+        } catch (Exception e) {
+            log.warn("Error while stopping container", e);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.bloxbean.cardano.yaci.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Waits until the devnet is ready to be used by tests. Following checks are run in parallel, each polling with
+ * exponential backoff:
+ * <ul>
+ *     <li>node: node tip is available through Ogmios</li>
+ *     <li>indexer: Yaci Store (protocol parameters available) or Kupo tip is within max sync lag of the node tip</li>
+ *     <li>funding: utxos of every funded address are indexed</li>
+ * </ul>
+ * If the devnet is not ready within the startup timeout, the error lists the checks which are not ready with their
+ * last status.
+ */
+@Slf4j
+public class YaciReadyWaitStrategy extends AbstractWaitStrategy {
+    public static final long DEFAULT_MAX_SYNC_LAG_SLOTS = 20;
+    private static final Duration INITIAL_POLL_INTERVAL = Duration.ofMillis(100);
+    private static final Duration MAX_POLL_INTERVAL = Duration.ofSeconds(2);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+    //Funding checks of many test accounts share the threads
+    private static final int MAX_CHECK_THREADS = 16;
+
+    private final ApiMode apiMode;
+    private final List<String> fundedAddresses;
+    private long maxSyncLagSlots = DEFAULT_MAX_SYNC_LAG_SLOTS;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+
+    public YaciReadyWaitStrategy(@NonNull ApiMode apiMode, @NonNull List<String> fundedAddresses) {
+        this.apiMode = apiMode;
+        this.fundedAddresses = fundedAddresses;
+    }
+
+    /**
+     * Set max no of slots the indexer can be behind the node tip
+     * @param maxSyncLagSlots max lag in slots
+     * @return this wait strategy
+     */
+    public YaciReadyWaitStrategy withMaxSyncLagSlots(long maxSyncLagSlots) {
+        this.maxSyncLagSlots = maxSyncLagSlots;
+        return this;
+    }
+
+    @Override
+    protected void waitUntilReady() {
+        List<ReadinessCheck> checks = checks();
+        long deadline = System.nanoTime() + startupTimeout.toNanos();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(checks.size(), MAX_CHECK_THREADS), runnable -> {
+            Thread thread = new Thread(runnable, "yaci-ready-check-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<?>> futures = checks.stream()
+                    .map(check -> executor.submit(() -> poll(check, deadline)))
+                    .collect(Collectors.toList());
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for devnet", e);
+        } catch (ExecutionException e) {
+            throw new ContainerLaunchException("Error while waiting for devnet", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<ReadinessCheck> notReady = checks.stream()
+                .filter(check -> !check.ready)
+                .collect(Collectors.toList());
+        if (!notReady.isEmpty()) {
+            String details = notReady.stream()
+                    .map(check -> check.name + " : " + check.lastStatus)
+                    .collect(Collectors.joining("\n  "));
+            throw new ContainerLaunchException("Devnet not ready within " + startupTimeout.getSeconds() + " seconds."
+                    + " Not ready:\n  " + details);
+        }
+    }
+
+    private void poll(ReadinessCheck check, long deadline) {
+        long interval = INITIAL_POLL_INTERVAL.toMillis();
+        long start = System.nanoTime();
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            try {
+                String status = check.probe.call();
+                if (status == null) {
+                    check.ready = true;
+                    log.debug("{} ready in {} ms", check.name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    return;
+                }
+                check.lastStatus = status;
+            } catch (Exception e) {
+                check.lastStatus = e.getClass().getSimpleName() + ": " + e.getMessage();
+            }
+
+            try {
+                Thread.sleep(Math.min(interval, Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()))));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            interval = Math.min(interval * 2, MAX_POLL_INTERVAL.toMillis());
+        }
+    }
+
+    private List<ReadinessCheck> checks() {
+        List<ReadinessCheck> checks = new ArrayList<>();
+        checks.add(new ReadinessCheck("node", () -> nodeTipSlot() >= 0 ? null : "no tip"));
+
+        if (apiMode == ApiMode.YACI_STORE) {
+            checks.add(new ReadinessCheck("yaci-store", this::storeStatus));
+        } else {
+            checks.add(new ReadinessCheck("kupo", this::kupoStatus));
+        }
+
+        for (String address : fundedAddresses) {
+            checks.add(new ReadinessCheck("funding " + address, () -> fundingStatus(address)));
+        }
+        return checks;
+    }
+
+    private String storeStatus() throws Exception {
+        JsonNode params = get(storeUrl("epochs/parameters"));
+        if (params == null || !params.has("cost_models") || !params.has("pool_deposit"))
+            return "protocol parameters not available";
+
+        JsonNode block = get(storeUrl("blocks/latest"));
+        if (block == null || !block.has("slot"))
+            return "no block indexed";
+
+        return syncLagStatus(block.get("slot").asLong());
+    }
+
+    private String kupoStatus() throws Exception {
+        JsonNode health = get(kupoUrl("health"));
+        if (health == null || !health.hasNonNull("most_recent_checkpoint"))
+            return "no checkpoint";
+
+        return syncLagStatus(health.get("most_recent_checkpoint").asLong());
+    }
+
+    private String syncLagStatus(long indexerSlot) throws Exception {
+        long nodeSlot = nodeTipSlot();
+        long lag = nodeSlot - indexerSlot;
+        return lag <= maxSyncLagSlots ? null : "indexer slot " + indexerSlot + " is " + lag + " slots behind node tip";
+    }
+
+    private String fundingStatus(String address) throws Exception {
+        JsonNode utxos = apiMode == ApiMode.YACI_STORE
+                ? get(storeUrl("addresses/" + address + "/utxos?count=1"))
+                : get(kupoUrl("matches/" + address + "?unspent"));
+
+        return utxos != null && utxos.isArray() && utxos.size() > 0 ? null : "no utxo found";
+    }
+
+    private long nodeTipSlot() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url(YaciCardanoContainer.OGMIOS_PORT, "")))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"jsonrpc\":\"2.0\",\"method\":\"queryNetwork/tip\",\"id\":\"ready\"}"))
+                .build();
+        JsonNode response = send(request);
+        JsonNode result = response != null ? response.get("result") : null;
+        //"origin" until the first block
+        if (result == null || !result.has("slot"))
+            return -1;
+
+        return result.get("slot").asLong();
+    }
+
+    private JsonNode get(String url) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        return send(request);
+    }
+
+    private JsonNode send(HttpRequest request) throws Exception {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200)
+            throw new IllegalStateException("HTTP " + response.statusCode() + " from " + request.uri());
+
+        return objectMapper.readTree(response.body());
+    }
+
+    private String storeUrl(String path) {
+        return url(YaciCardanoContainer.STORE_PORT, "api/v1/" + path);
+    }
+
+    private String kupoUrl(String path) {
+        return url(YaciCardanoContainer.KUPO_PORT, path);
+    }
+
+    private String url(int port, String path) {
+        return "http://" + waitStrategyTarget.getHost() + ":" + waitStrategyTarget.getMappedPort(port) + "/" + path;
+    }
+
+    private static class ReadinessCheck {
+        private final String name;
+        private final Callable<String> probe;
+        private volatile boolean ready;
+        private volatile String lastStatus = "not checked";
+
+        ReadinessCheck(String name, Callable<String> probe) {
+            this.name = name;
+            this.probe = probe;
+        }
+    }
+}
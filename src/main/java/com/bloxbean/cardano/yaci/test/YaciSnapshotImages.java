@@ -0,0 +1,163 @@
+package com.bloxbean.cardano.yaci.test;
+
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.backend.model.EpochContent;
+import com.bloxbean.cardano.client.util.HexUtil;
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.NotFoundException;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Builds and caches local docker images of an already started devnet, i.e. after the Conway hard fork and with
+ * initial fundings available, including Yaci Store / Kupo data. Containers started from a snapshot image skip devnet
+ * creation and indexing of the initial blocks.
+ * <p>
+ * Images are tagged with a cache key derived from the yaci-cli image, {@link ApiMode}, block time and initial
+ * fundings, and are kept in the local docker image cache across test runs. Remove the images to rebuild them.
+ */
+@Slf4j
+public class YaciSnapshotImages {
+    public static final String SNAPSHOT_REPOSITORY = "yaci-cardano-test-snapshot";
+    private static final Duration HARD_FORK_TIMEOUT = Duration.ofMinutes(5);
+
+    private static final Map<String, Object> buildLocks = new ConcurrentHashMap<>();
+
+    private YaciSnapshotImages() {
+    }
+
+    /**
+     * Returns snapshot image for the container's configuration. The image is built on first call if it doesn't
+     * exist in the local docker image cache.
+     *
+     * @param container container whose configuration is used. The container is not started.
+     * @return snapshot image name
+     */
+    public static String getOrBuild(@NonNull YaciCardanoContainer container) {
+        String imageName = SNAPSHOT_REPOSITORY + ":" + cacheKey(container);
+
+        synchronized (buildLocks.computeIfAbsent(imageName, k -> new Object())) {
+            if (imageExists(imageName)) {
+                log.debug("Using snapshot image {}", imageName);
+                return imageName;
+            }
+
+            build(container, imageName);
+            return imageName;
+        }
+    }
+
+    /**
+     * Cache key for the container's configuration
+     * @param container container
+     * @return cache key
+     */
+    static String cacheKey(YaciCardanoContainer container) {
+        String fundings = container.getInitialFundings().stream()
+                .sorted(Comparator.comparing(Funding::getAddress).thenComparingLong(Funding::getAdaValue))
+                .map(funding -> funding.getAddress() + ":" + funding.getAdaValue())
+                .collect(Collectors.joining(","));
+        String config = container.getSourceImageName() + "|" + container.getApiMode() + "|"
+                + container.getBlockTime() + "|" + fundings;
+
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(config.getBytes(StandardCharsets.UTF_8));
+            return HexUtil.encodeHexString(hash).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean imageExists(String imageName) {
+        try {
+            DockerClientFactory.instance().client().inspectImageCmd(imageName).exec();
+            return true;
+        } catch (NotFoundException e) {
+            return false;
+        }
+    }
+
+    private static void build(YaciCardanoContainer container, String imageName) {
+        log.info("Building devnet snapshot image {}. This is done only once.", imageName);
+
+        YaciCardanoContainer builder = new YaciCardanoContainer(DockerImageName.parse(container.getSourceImageName()),
+                container.getBlockTime(), container.getWaitTimeout())
+                .withApiMode(container.getApiMode());
+        if (!container.getInitialFundings().isEmpty())
+            builder.withInitialFunding(container.getInitialFundings().toArray(new Funding[0]));
+
+        try {
+            builder.start();
+            waitForFundings(builder);
+            waitForHardFork(builder);
+
+            DockerClient dockerClient = DockerClientFactory.instance().client();
+            DockerImageName snapshot = DockerImageName.parse(imageName);
+            dockerClient.commitCmd(builder.getContainerId())
+                    .withRepository(snapshot.getUnversionedPart())
+                    .withTag(snapshot.getVersionPart())
+                    .withPause(true)
+                    .exec();
+            log.info("Snapshot image {} created", imageName);
+        } finally {
+            builder.stop();
+        }
+    }
+
+    private static void waitForFundings(YaciCardanoContainer container) {
+        for (Funding funding : container.getInitialFundings()) {
+            waitUntil(() -> {
+                List<Utxo> utxos = container.getUtxoSupplier().getPage(funding.getAddress(), 1, 0, OrderEnum.asc);
+                return utxos != null && !utxos.isEmpty();
+            }, Duration.ofSeconds(container.getWaitTimeout()), "Initial funding not found for " + funding.getAddress());
+        }
+    }
+
+    private static void waitForHardFork(YaciCardanoContainer container) {
+        waitUntil(() -> {
+            Result<EpochContent> result = container.getEpochService().getLatestEpoch();
+            return result.isSuccessful() && result.getValue().getEpoch() != null && result.getValue().getEpoch() >= 1;
+        }, HARD_FORK_TIMEOUT, "Devnet has not reached epoch 1");
+    }
+
+    private static void waitUntil(Check check, Duration timeout, String timeoutMessage) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            try {
+                if (check.test())
+                    return;
+            } catch (Exception e) {
+                log.debug("Check failed", e);
+            }
+
+            if (System.nanoTime() > deadline)
+                throw new IllegalStateException(timeoutMessage);
+
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while building snapshot image", e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Check {
+        boolean test() throws Exception;
+    }
+}
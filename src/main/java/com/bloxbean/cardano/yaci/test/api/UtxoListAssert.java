@@ -1,6 +1,5 @@
 package com.bloxbean.cardano.yaci.test.api;
 
-import com.bloxbean.cardano.client.api.model.Amount;
 import com.bloxbean.cardano.client.api.model.Utxo;
 import com.bloxbean.cardano.client.api.util.AssetUtil;
 import com.bloxbean.cardano.client.exception.CborSerializationException;
@@ -8,23 +7,27 @@ import com.bloxbean.cardano.client.plutus.impl.DefaultPlutusObjectConverter;
 import com.bloxbean.cardano.client.plutus.spec.PlutusScript;
 import com.bloxbean.cardano.client.transaction.spec.Asset;
 import com.bloxbean.cardano.client.util.HexUtil;
+import com.bloxbean.cardano.yaci.test.api.helper.Balances;
+import com.bloxbean.cardano.yaci.test.api.helper.YaciTestHelper;
 import lombok.NonNull;
 import org.assertj.core.api.ListAssert;
-import org.jetbrains.annotations.NotNull;
 
 import java.math.BigInteger;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
-import static com.bloxbean.cardano.yaci.test.api.helper.YaciTestHelper.amounts;
-
 /**
  * Assertions for list of {@link Utxo}
  */
 public class UtxoListAssert extends ListAssert<Utxo> {
+    //Aggregates computed once per assertion object, so chained assertions don't scan the list again
+    private Balances balances;
+    private Set<String> inlineDatums;
+    private Set<String> datumHashes;
+    private Set<String> referenceScriptHashes;
+
     protected UtxoListAssert(List<Utxo> utxos) {
         super(utxos);
     }
@@ -46,14 +49,12 @@ public class UtxoListAssert extends ListAssert<Utxo> {
      * @throws AssertionError - If utxo list doesn't contain multiasset
      */
     public UtxoListAssert containsMultiAsset(@NonNull String policyId, @NonNull String assetName) {
-        List<Amount> amounts = amounts((List<Utxo>) actual);
-        if (amounts == null) amounts = Collections.emptyList();
+        Balances balances = balances();
 
         String unit = AssetUtil.getUnit(policyId, new Asset(assetName, BigInteger.ZERO));
 
-        String units = amounts.stream().map(amount -> amount.getUnit()).collect(Collectors.joining("\n,"));
-        if (amounts.size() == 0 ||
-                !amounts.stream().anyMatch(amount -> amount.getUnit().equals(unit))) {
+        if (!balances.contains(unit)) {
+            String units = String.join("\n,", balances.units());
             failWithMessage("Expected asset with policy : policy: <%s>, asset: <%s>. \nBut not found. \nunits: <%s>", policyId, assetName, units);
         }
 
@@ -72,10 +73,9 @@ public class UtxoListAssert extends ListAssert<Utxo> {
     public UtxoListAssert hasAssetBalance(@NonNull String policyId, @NonNull String assetName, @NonNull BigInteger expectedBalance) {
         isNotNull();
 
-        List<Amount> amounts = amounts((List<Utxo>) actual);
         String unit = AssetUtil.getUnit(policyId, new Asset(assetName, BigInteger.ZERO));
 
-        BigInteger actual = getAssetBalance(amounts, unit);
+        BigInteger actual = balances().get(unit);
 
         if (!expectedBalance.equals(actual)) {
             failWithMessage("Expected asset balance to be <%s> but was <%s>", expectedBalance, actual);
@@ -96,10 +96,9 @@ public class UtxoListAssert extends ListAssert<Utxo> {
     public UtxoListAssert hasAssetBalance(@NonNull String policyId, @NonNull String assetName, @NonNull Predicate<BigInteger> predicate) {
         isNotNull();
 
-        List<Amount> amounts = amounts((List<Utxo>) actual);
         String unit = AssetUtil.getUnit(policyId, new Asset(assetName, BigInteger.ZERO));
 
-        BigInteger actualBalance = getAssetBalance(amounts, unit);
+        BigInteger actualBalance = balances().get(unit);
 
         if (!predicate.test(actualBalance)) {
             failWithMessage("Failed predicate. Actual balance <%s>", actualBalance);
@@ -116,9 +115,7 @@ public class UtxoListAssert extends ListAssert<Utxo> {
      * @throws AssertionError - If expected lovelace balance doesn't match with actual balance
      */
     public UtxoListAssert hasLovelaceBalance(@NonNull BigInteger expectedBalance) {
-        List<Amount> amounts = amounts((List<Utxo>) actual);
-
-        BigInteger actualBalance = getAssetBalance(amounts, LOVELACE);
+        BigInteger actualBalance = balances().lovelace();
 
         if (!expectedBalance.equals(actualBalance)) {
             failWithMessage("Expected lovelace balance to be <%s> but was <%s>", expectedBalance, actualBalance);
@@ -135,9 +132,7 @@ public class UtxoListAssert extends ListAssert<Utxo> {
      * @throws AssertionError - If predicate evaluates to false
      */
     public UtxoListAssert hasLovelaceBalance(@NonNull Predicate<BigInteger> predicate) {
-        List<Amount> amounts = amounts((List<Utxo>) actual);
-
-        BigInteger actualBalance = getAssetBalance(amounts, LOVELACE);
+        BigInteger actualBalance = balances().lovelace();
 
         if (!predicate.test(actualBalance)) {
             failWithMessage("Failed predicate. Actual balance <%s>", actualBalance);
@@ -146,15 +141,6 @@ public class UtxoListAssert extends ListAssert<Utxo> {
         return this;
     }
 
-    @NotNull
-    private static BigInteger getAssetBalance(List<Amount> amounts, String unit) {
-        BigInteger actual = amounts.stream().filter(amount -> amount.getUnit().equals(unit))
-                .findFirst()
-                .map(amount -> amount.getQuantity())
-                .orElse(BigInteger.ZERO);
-        return actual;
-    }
-
     /**
      * Verifies if utxo list contains the given inline datum.
      *
@@ -167,8 +153,7 @@ public class UtxoListAssert extends ListAssert<Utxo> {
         isNotNull();
 
         String datumCborHex = new DefaultPlutusObjectConverter().toPlutusData(datumObj).serializeToHex();
-        boolean found = actual.stream()
-                .anyMatch(utxo -> datumCborHex.equals(utxo.getInlineDatum()));
+        boolean found = inlineDatums().contains(datumCborHex);
         if (!found)
             failWithMessage("Expected but not found.\n InlineDatum : <%s>", datumCborHex);
 
@@ -185,8 +170,7 @@ public class UtxoListAssert extends ListAssert<Utxo> {
     public UtxoListAssert containsDatumHash(@NonNull String datumHash) {
         isNotNull();
 
-        boolean found = actual.stream()
-                .anyMatch(utxo -> datumHash.equals(utxo.getDataHash()));
+        boolean found = datumHashes().contains(datumHash);
         if (!found)
             failWithMessage("Expected but not found.\n Datum Hash : <%s>", datumHash);
 
@@ -205,8 +189,7 @@ public class UtxoListAssert extends ListAssert<Utxo> {
         try {
             String scriptRefHex = HexUtil.encodeHexString(plutusScript.getScriptHash());
 
-            boolean found = actual.stream()
-                    .anyMatch(utxo -> scriptRefHex.equals(utxo.getReferenceScriptHash()));
+            boolean found = referenceScriptHashes().contains(scriptRefHex);
 
             if (!found)
                 failWithMessage("Expected but not found.\n ReferenceScript : <%s>", scriptRefHex);
@@ -216,4 +199,108 @@ public class UtxoListAssert extends ListAssert<Utxo> {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Verifies if utxo list contains all the given inline datums. All missing datums are reported in one failure.
+     *
+     * @param datumObjs Datum objects. Objects of type PlutusData or objects of a class with PlutusData annotations
+     * @return this assertion object
+     * @throws AssertionError - If any datum object is not found in inlineDatum field
+     */
+    public UtxoListAssert containsInlineDatums(@NonNull Collection<?> datumObjs) {
+        isNotNull();
+
+        DefaultPlutusObjectConverter converter = new DefaultPlutusObjectConverter();
+        List<String> missing = datumObjs.stream()
+                .map(datumObj -> converter.toPlutusData(datumObj).serializeToHex())
+                .filter(datumCborHex -> !inlineDatums().contains(datumCborHex))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty())
+            failWithMessage("Expected but not found <%s> of <%s>.\n InlineDatums : <%s>", missing.size(), datumObjs.size(),
+                    String.join("\n,", missing));
+
+        return this;
+    }
+
+    /**
+     * Verifies if utxo list contains all the given datum hashes. All missing hashes are reported in one failure.
+     *
+     * @param datumHashes Datum hashes
+     * @return this assertion object
+     * @throws AssertionError - If any datum hash is not found
+     */
+    public UtxoListAssert containsDatumHashes(@NonNull Collection<String> datumHashes) {
+        isNotNull();
+
+        List<String> missing = datumHashes.stream()
+                .filter(datumHash -> !datumHashes().contains(datumHash))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty())
+            failWithMessage("Expected but not found <%s> of <%s>.\n Datum Hashes : <%s>", missing.size(), datumHashes.size(),
+                    String.join("\n,", missing));
+
+        return this;
+    }
+
+    /**
+     * Verifies if utxo list contains all the given reference scripts. All missing scripts are reported in one failure.
+     *
+     * @param plutusScripts PlutusScripts to check
+     * @return this assertion object
+     * @throws AssertionError - If any reference script is not found
+     */
+    public UtxoListAssert containsReferenceScripts(@NonNull Collection<? extends PlutusScript> plutusScripts) {
+        isNotNull();
+
+        try {
+            List<String> missing = new ArrayList<>();
+            for (PlutusScript plutusScript : plutusScripts) {
+                String scriptRefHex = HexUtil.encodeHexString(plutusScript.getScriptHash());
+                if (!referenceScriptHashes().contains(scriptRefHex))
+                    missing.add(scriptRefHex);
+            }
+
+            if (!missing.isEmpty())
+                failWithMessage("Expected but not found <%s> of <%s>.\n ReferenceScripts : <%s>", missing.size(),
+                        plutusScripts.size(), String.join("\n,", missing));
+
+            return this;
+        } catch (CborSerializationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Balances balances() {
+        if (balances == null)
+            balances = YaciTestHelper.balances((List<Utxo>) actual);
+        return balances;
+    }
+
+    private Set<String> inlineDatums() {
+        if (inlineDatums == null)
+            inlineDatums = collect(Utxo::getInlineDatum);
+        return inlineDatums;
+    }
+
+    private Set<String> datumHashes() {
+        if (datumHashes == null)
+            datumHashes = collect(Utxo::getDataHash);
+        return datumHashes;
+    }
+
+    private Set<String> referenceScriptHashes() {
+        if (referenceScriptHashes == null)
+            referenceScriptHashes = collect(Utxo::getReferenceScriptHash);
+        return referenceScriptHashes;
+    }
+
+    private Set<String> collect(Function<Utxo, String> field) {
+        Set<String> values = new HashSet<>();
+        for (Utxo utxo : actual) {
+            String value = field.apply(utxo);
+            if (value != null)
+                values.add(value);
+        }
+        return values;
+    }
 }
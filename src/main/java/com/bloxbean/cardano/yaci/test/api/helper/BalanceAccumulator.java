@@ -0,0 +1,130 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import lombok.NonNull;
+
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collector;
+
+import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
+
+/**
+ * Sums utxo amounts per unit in a single pass. Sums are kept in longs and only switch to {@link BigInteger} on
+ * overflow, and lovelace has its own counter, so no intermediate lists or boxed values are created per utxo.
+ * <p>
+ * Not thread-safe. Use {@link #collector()} to aggregate a (parallel) stream.
+ */
+public class BalanceAccumulator {
+    private final Sum lovelace = new Sum();
+    private final Map<String, Sum> assets = new LinkedHashMap<>();
+    private boolean hasLovelace;
+
+    /**
+     * Add all amounts of a utxo
+     * @param utxo utxo
+     * @return this accumulator
+     */
+    public BalanceAccumulator add(@NonNull Utxo utxo) {
+        if (utxo.getAmount() == null)
+            return this;
+
+        for (Amount amount : utxo.getAmount()) {
+            add(amount.getUnit(), amount.getQuantity());
+        }
+        return this;
+    }
+
+    /**
+     * Add all amounts of the given utxos
+     * @param utxos utxos
+     * @return this accumulator
+     */
+    public BalanceAccumulator addAll(@NonNull Iterable<Utxo> utxos) {
+        for (Utxo utxo : utxos) {
+            add(utxo);
+        }
+        return this;
+    }
+
+    /**
+     * Add quantity of a unit
+     * @param unit unit (lovelace or policy id + asset name in hex)
+     * @param quantity quantity
+     * @return this accumulator
+     */
+    public BalanceAccumulator add(@NonNull String unit, BigInteger quantity) {
+        if (quantity == null)
+            return this;
+
+        if (LOVELACE.equals(unit)) {
+            hasLovelace = true;
+            lovelace.add(quantity);
+        } else {
+            assets.computeIfAbsent(unit, k -> new Sum()).add(quantity);
+        }
+        return this;
+    }
+
+    /**
+     * Merge another accumulator into this one
+     * @param other accumulator to merge
+     * @return this accumulator
+     */
+    public BalanceAccumulator merge(@NonNull BalanceAccumulator other) {
+        if (other.hasLovelace)
+            add(LOVELACE, other.lovelace.value());
+        other.assets.forEach((unit, sum) -> add(unit, sum.value()));
+        return this;
+    }
+
+    /**
+     * Returns the accumulated balances. Lovelace comes first, followed by other units in the order they were seen.
+     * @return balances
+     */
+    public Balances toBalances() {
+        Map<String, BigInteger> balances = new LinkedHashMap<>(assets.size() * 2 + 2);
+        if (hasLovelace)
+            balances.put(LOVELACE, lovelace.value());
+        assets.forEach((unit, sum) -> balances.put(unit, sum.value()));
+
+        return new Balances(balances);
+    }
+
+    /**
+     * Returns a {@link Collector} which aggregates a stream of utxos to {@link Balances}
+     * @return collector
+     */
+    public static Collector<Utxo, BalanceAccumulator, Balances> collector() {
+        return Collector.of(BalanceAccumulator::new, BalanceAccumulator::add, BalanceAccumulator::merge,
+                BalanceAccumulator::toBalances);
+    }
+
+    /**
+     * Running sum which stays in a long until it overflows
+     */
+    private static class Sum {
+        private long value;
+        private BigInteger big;
+
+        void add(BigInteger quantity) {
+            if (big == null && quantity.bitLength() < Long.SIZE) {
+                long q = quantity.longValue();
+                long result = value + q;
+                //Overflow if both operands have the sign opposite to the result
+                if (((value ^ result) & (q ^ result)) >= 0) {
+                    value = result;
+                    return;
+                }
+            }
+
+            big = value().add(quantity);
+        }
+
+        BigInteger value() {
+            return big != null ? big : BigInteger.valueOf(value);
+        }
+    }
+}
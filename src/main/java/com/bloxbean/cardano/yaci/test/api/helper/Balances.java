@@ -0,0 +1,96 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import lombok.NonNull;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
+
+/**
+ * Balance per unit of a set of utxos, indexed by unit. Created by {@link BalanceAccumulator}.
+ */
+public class Balances {
+    private final Map<String, BigInteger> balances;
+
+    Balances(Map<String, BigInteger> balances) {
+        this.balances = Collections.unmodifiableMap(balances);
+    }
+
+    /**
+     * Aggregate balances of the given utxos
+     * @param utxos utxos
+     * @return balances
+     */
+    public static Balances of(@NonNull Iterable<Utxo> utxos) {
+        return new BalanceAccumulator().addAll(utxos).toBalances();
+    }
+
+    /**
+     * Returns lovelace balance
+     * @return lovelace balance or zero
+     */
+    public BigInteger lovelace() {
+        return get(LOVELACE);
+    }
+
+    /**
+     * Returns balance of a unit
+     * @param unit unit
+     * @return balance or zero if the unit is not found
+     */
+    public BigInteger get(@NonNull String unit) {
+        return balances.getOrDefault(unit, BigInteger.ZERO);
+    }
+
+    /**
+     * Returns balance of a unit
+     * @param unit unit
+     * @return balance or empty if the unit is not found
+     */
+    public Optional<BigInteger> find(@NonNull String unit) {
+        return Optional.ofNullable(balances.get(unit));
+    }
+
+    public boolean contains(@NonNull String unit) {
+        return balances.containsKey(unit);
+    }
+
+    public Set<String> units() {
+        return balances.keySet();
+    }
+
+    public boolean isEmpty() {
+        return balances.isEmpty();
+    }
+
+    public Map<String, BigInteger> asMap() {
+        return balances;
+    }
+
+    public List<Amount> toAmounts() {
+        return balances.entrySet().stream()
+                .map(entry -> new Amount(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return balances.equals(((Balances) o).balances);
+    }
+
+    @Override
+    public int hashCode() {
+        return balances.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return balances.toString();
+    }
+}
@@ -0,0 +1,225 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.exception.InsufficientBalanceException;
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionOutput;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Pool of faucet utxos. Each transaction built from the faucet gets its own reserved inputs, so that concurrent
+ * transactions never pick the same utxo. Faucet outputs of a submitted transaction (change) are returned to
+ * the pool right after submission and can be spent by the next transaction before confirmation.
+ * <p>
+ * Reserved utxos and inputs of submitted, not yet confirmed transactions are tracked by output reference, so a
+ * {@link #resync()} never hands them out again.
+ */
+@Slf4j
+class FaucetUtxoPool {
+    private final String faucetAddress;
+    private final UtxoSupplier utxoSupplier;
+    private final Duration reserveTimeout;
+    //All state below is guarded by this
+    private final Deque<Utxo> available = new ArrayDeque<>();
+    private final Set<String> reservedRefs = new HashSet<>();
+    //Inputs of submitted transactions by tx hash
+    private final Map<String, Set<String>> inFlight = new HashMap<>();
+
+    FaucetUtxoPool(@NonNull String faucetAddress, @NonNull UtxoSupplier utxoSupplier, @NonNull Duration reserveTimeout) {
+        this.faucetAddress = faucetAddress;
+        this.utxoSupplier = utxoSupplier;
+        this.reserveTimeout = reserveTimeout;
+        resync();
+    }
+
+    /**
+     * Build a transaction with reserved faucet utxos and submit it. If the transaction can't be built because of
+     * insufficient balance, the reserved utxos are released and one more utxo than before is reserved at once.
+     *
+     * @param txFactory creates the transaction from a utxo supplier which only returns reserved faucet utxos
+     * @param submitter submits the transaction
+     * @return submission result
+     * @throws IllegalStateException if not enough faucet utxos are available within the reserve timeout
+     */
+    Result<String> submit(Function<UtxoSupplier, Transaction> txFactory, Function<Transaction, Result<String>> submitter) {
+        List<Utxo> reserved = reserve(1);
+        try {
+            while (true) {
+                Transaction transaction;
+                try {
+                    transaction = txFactory.apply(new ReservedUtxoSupplier(reserved));
+                } catch (RuntimeException e) {
+                    if (!isInsufficientBalance(e))
+                        throw e;
+
+                    int count = reserved.size() + 1;
+                    log.debug("Insufficient balance in {} reserved faucet utxos. Reserving {}", reserved.size(), count);
+                    release(reserved);
+                    reserved = Collections.emptyList();
+                    reserved = reserve(count);
+                    continue;
+                }
+
+                Result<String> result = submitter.apply(transaction);
+                if (result.isSuccessful()) {
+                    Set<String> spent = transaction.getBody().getInputs().stream()
+                            .map(input -> outRef(input.getTransactionId(), input.getIndex()))
+                            .collect(Collectors.toSet());
+                    reserved.removeIf(utxo -> spent.contains(outRef(utxo)));
+
+                    submitted(result.getValue(), spent, transaction);
+                }
+                return result;
+            }
+        } finally {
+            //Unused reservations go back to the pool
+            release(reserved);
+        }
+    }
+
+    /**
+     * Reload available utxos from the backend. Used when a transaction built from the pool is not confirmed, as
+     * its change may never exist on chain. Reserved utxos and inputs of in-flight transactions are left out.
+     */
+    void resync() {
+        List<Utxo> utxos = utxoSupplier.getAll(faucetAddress);
+        synchronized (this) {
+            Set<String> excluded = new HashSet<>(reservedRefs);
+            inFlight.values().forEach(excluded::addAll);
+
+            available.clear();
+            if (utxos != null) {
+                utxos.stream()
+                        .filter(utxo -> !excluded.contains(outRef(utxo)))
+                        .forEach(available::add);
+            }
+            notifyAll();
+
+            log.debug("Faucet utxo pool loaded with {} utxos", available.size());
+        }
+    }
+
+    /**
+     * Mark a transaction as confirmed or dropped, so its inputs are no longer excluded from {@link #resync()}
+     * @param txHash transaction hash
+     */
+    synchronized void completed(String txHash) {
+        inFlight.remove(txHash);
+    }
+
+    /**
+     * Returns no of utxos which can be reserved
+     */
+    synchronized int available() {
+        return available.size();
+    }
+
+    /**
+     * Reserve the given no of utxos at once. The caller holds no reservation while waiting, so concurrent
+     * transactions which need several utxos can't each hold part of the pool and wait for the rest.
+     */
+    private synchronized List<Utxo> reserve(int count) {
+        long deadline = System.nanoTime() + reserveTimeout.toNanos();
+        try {
+            while (available.size() < count) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0)
+                    throw new IllegalStateException(count + " faucet utxo(s) not available within " + reserveTimeout);
+                wait(remainingMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for faucet utxo", e);
+        }
+
+        List<Utxo> utxos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Utxo utxo = available.pollFirst();
+            reservedRefs.add(outRef(utxo));
+            utxos.add(utxo);
+        }
+        return utxos;
+    }
+
+    private synchronized void release(List<Utxo> utxos) {
+        //A reserved utxo is never reloaded by resync, so it can't be in the pool already
+        for (Utxo utxo : utxos) {
+            if (reservedRefs.remove(outRef(utxo)))
+                available.offerLast(utxo);
+        }
+        notifyAll();
+    }
+
+    private synchronized void submitted(String txHash, Set<String> spent, Transaction transaction) {
+        reservedRefs.removeAll(spent);
+        inFlight.put(txHash, spent);
+
+        List<TransactionOutput> outputs = transaction.getBody().getOutputs();
+        for (int i = 0; i < outputs.size(); i++) {
+            if (faucetAddress.equals(outputs.get(i).getAddress()))
+                available.offerFirst(PendingTxUtxoSupplier.toUtxo(txHash, i, outputs.get(i)));
+        }
+        notifyAll();
+    }
+
+    private static boolean isInsufficientBalance(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof InsufficientBalanceException)
+                return true;
+        }
+        return false;
+    }
+
+    private static String outRef(Utxo utxo) {
+        return outRef(utxo.getTxHash(), utxo.getOutputIndex());
+    }
+
+    private static String outRef(String txHash, int index) {
+        return txHash + "#" + index;
+    }
+
+    /**
+     * Returns only reserved utxos for faucet address and delegates other addresses
+     */
+    private class ReservedUtxoSupplier implements UtxoSupplier {
+        private final List<Utxo> reserved;
+
+        ReservedUtxoSupplier(List<Utxo> reserved) {
+            this.reserved = new ArrayList<>(reserved);
+        }
+
+        @Override
+        public List<Utxo> getPage(String address, Integer nrOfItems, Integer page, OrderEnum order) {
+            if (!faucetAddress.equals(address))
+                return utxoSupplier.getPage(address, nrOfItems, page, order);
+
+            return page == null || page == 0 ? reserved : Collections.emptyList();
+        }
+
+        @Override
+        public List<Utxo> getAll(String address) {
+            if (!faucetAddress.equals(address))
+                return utxoSupplier.getAll(address);
+
+            return reserved;
+        }
+
+        @Override
+        public Optional<Utxo> getTxOutput(String txHash, int outputIndex) {
+            return reserved.stream()
+                    .filter(utxo -> utxo.getTxHash().equals(txHash) && utxo.getOutputIndex() == outputIndex)
+                    .findFirst()
+                    .or(() -> utxoSupplier.getTxOutput(txHash, outputIndex));
+        }
+    }
+}
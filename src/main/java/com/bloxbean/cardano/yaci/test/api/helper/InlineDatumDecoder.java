@@ -0,0 +1,90 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.exception.CborDeserializationException;
+import com.bloxbean.cardano.client.plutus.spec.PlutusData;
+import com.bloxbean.cardano.client.util.HexUtil;
+import lombok.NonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Decodes inline datums of utxos. Large lists are decoded in parallel and decoded datums are cached by the inline
+ * datum cbor hex the utxo carries, so the same datum is deserialized only once across calls.
+ * <p>
+ * Cached PlutusData instances are returned to every caller asking for the same datum, so they should not be modified.
+ * A decoder with cache size 0 doesn't cache and always returns new instances.
+ */
+class InlineDatumDecoder {
+    static final int DEFAULT_CACHE_SIZE = 10_000;
+    static final int PARALLEL_THRESHOLD = 64;
+
+    private final int maxCacheSize;
+    private final Map<String, PlutusData> cache = new ConcurrentHashMap<>();
+    //Insertion order of cache, oldest first
+    private final Queue<String> cachedDatums = new ConcurrentLinkedQueue<>();
+
+    InlineDatumDecoder(int maxCacheSize) {
+        if (maxCacheSize < 0)
+            throw new IllegalArgumentException("Cache size can't be negative");
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    /**
+     * Decode inline datums whose raw cbor hex matches the filter. Datums which don't match are never deserialized.
+     *
+     * @param utxos utxos
+     * @param rawCborFilter predicate on inline datum cbor hex
+     * @return decoded datums in utxo order
+     */
+    List<PlutusData> decode(@NonNull List<Utxo> utxos, @NonNull Predicate<String> rawCborFilter) {
+        Stream<Utxo> stream = utxos.size() >= PARALLEL_THRESHOLD ? utxos.parallelStream() : utxos.stream();
+        return stream
+                .map(Utxo::getInlineDatum)
+                .filter(datum -> datum != null && rawCborFilter.test(datum))
+                .map(this::decode)
+                .collect(Collectors.toList());
+    }
+
+    PlutusData decode(@NonNull String inlineDatumHex) {
+        if (maxCacheSize == 0)
+            return deserialize(inlineDatumHex);
+
+        PlutusData plutusData = cache.get(inlineDatumHex);
+        if (plutusData != null)
+            return plutusData;
+
+        plutusData = deserialize(inlineDatumHex);
+        PlutusData existing = cache.putIfAbsent(inlineDatumHex, plutusData);
+        if (existing != null)
+            return existing;
+
+        cachedDatums.add(inlineDatumHex);
+        while (cache.size() > maxCacheSize) {
+            String eldest = cachedDatums.poll();
+            if (eldest == null)
+                break;
+            cache.remove(eldest);
+        }
+        return plutusData;
+    }
+
+    int cacheSize() {
+        return cache.size();
+    }
+
+    private static PlutusData deserialize(String inlineDatumHex) {
+        try {
+            return PlutusData.deserialize(HexUtil.decodeHexString(inlineDatumHex));
+        } catch (CborDeserializationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
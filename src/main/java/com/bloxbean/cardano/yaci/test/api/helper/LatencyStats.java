@@ -0,0 +1,70 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency percentiles of a set of samples
+ */
+@Getter
+public class LatencyStats {
+    private final int count;
+    private final Duration min;
+    private final Duration mean;
+    private final Duration p50;
+    private final Duration p90;
+    private final Duration p99;
+    private final Duration max;
+
+    private LatencyStats(long[] sortedNanos) {
+        this.count = sortedNanos.length;
+        if (count == 0) {
+            min = mean = p50 = p90 = p99 = max = Duration.ZERO;
+            return;
+        }
+
+        this.min = Duration.ofNanos(sortedNanos[0]);
+        this.mean = Duration.ofNanos((long) Arrays.stream(sortedNanos).average().orElse(0));
+        this.p50 = Duration.ofNanos(percentile(sortedNanos, 50));
+        this.p90 = Duration.ofNanos(percentile(sortedNanos, 90));
+        this.p99 = Duration.ofNanos(percentile(sortedNanos, 99));
+        this.max = Duration.ofNanos(sortedNanos[count - 1]);
+    }
+
+    /**
+     * Create stats from latency samples
+     * @param nanos samples in nanoseconds
+     * @return stats
+     */
+    public static LatencyStats of(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return new LatencyStats(sorted);
+    }
+
+    /**
+     * Nearest rank percentile
+     */
+    private static long percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count
+                + ", min=" + millis(min)
+                + ", mean=" + millis(mean)
+                + ", p50=" + millis(p50)
+                + ", p90=" + millis(p90)
+                + ", p99=" + millis(p99)
+                + ", max=" + millis(max);
+    }
+
+    private static String millis(Duration duration) {
+        return TimeUnit.NANOSECONDS.toMillis(duration.toNanos()) + "ms";
+    }
+}
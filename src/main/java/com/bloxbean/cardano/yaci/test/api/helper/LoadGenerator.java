@@ -0,0 +1,386 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.account.Account;
+import com.bloxbean.cardano.client.address.AddressProvider;
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.api.util.PolicyUtil;
+import com.bloxbean.cardano.client.common.model.Networks;
+import com.bloxbean.cardano.client.plutus.spec.BigIntPlutusData;
+import com.bloxbean.cardano.client.plutus.spec.PlutusScript;
+import com.bloxbean.cardano.client.plutus.spec.PlutusV2Script;
+import com.bloxbean.cardano.client.transaction.spec.Policy;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.Value;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static com.bloxbean.cardano.client.common.ADAConversionUtil.adaToLovelace;
+import static com.bloxbean.cardano.client.function.helper.SignerProviders.signerFrom;
+
+/**
+ * Submits a mix of transactions against the devnet and reports submit latency, confirmation latency and achieved
+ * transactions per second. Transactions are built and submitted through the helper, so they are traced like other
+ * helper transactions (see {@link TransactionHelper#getTxTracer()}).
+ * <p>
+ * Transactions are sent from a pool of funded accounts (see {@link YaciTestHelper#acquireTestAccount()}). Each
+ * account has at most one transaction in flight, so transactions never compete for the same utxos. Without a
+ * target rate, the generator runs closed loop, i.e. an account submits its next transaction as soon as the previous
+ * one is confirmed.
+ * <p>
+ * With a target rate, transactions are scheduled at fixed intervals. The rate is best-effort: if every account
+ * still has a transaction in flight, the next transaction is sent late, when an account is free. Submit latency is
+ * measured from the scheduled send time, so this wait shows up in the latency instead of being hidden by the
+ * lower rate. Confirmation latency is measured from the submission.
+ * <pre>
+ * LoadReport report = new LoadGenerator(testHelper)
+ *         .withAccounts(20)
+ *         .withMix(TxType.ADA_TRANSFER, 3)
+ *         .withMix(TxType.MINT, 1)
+ *         .withTargetTps(10)
+ *         .withDuration(Duration.ofMinutes(1))
+ *         .run();
+ * </pre>
+ */
+@Slf4j
+public class LoadGenerator {
+    //Always succeeds PlutusV2 script
+    private static final PlutusScript DEFAULT_LOCK_SCRIPT = PlutusV2Script.builder()
+            .type("PlutusScriptV2")
+            .cborHex("49480100002221200101")
+            .build();
+
+    public enum TxType {
+        /**
+         * Ada transfer to the sender itself
+         */
+        ADA_TRANSFER,
+        /**
+         * Token mint to the sender with a new policy per transaction
+         */
+        MINT,
+        /**
+         * Ada locked in a script address with an inline datum
+         */
+        SCRIPT_LOCK
+    }
+
+    private final YaciTestHelper testHelper;
+    private final Map<TxType, Integer> mix = new EnumMap<>(TxType.class);
+    private int noOfAccounts = 10;
+    private double targetTps;
+    private Duration duration = Duration.ofSeconds(30);
+    private int maxTransactions = Integer.MAX_VALUE;
+    private BigDecimal adaPerTx = BigDecimal.valueOf(2);
+    private PlutusScript lockScript = DEFAULT_LOCK_SCRIPT;
+
+    public LoadGenerator(@NonNull YaciTestHelper testHelper) {
+        this.testHelper = testHelper;
+    }
+
+    /**
+     * Set no of sender accounts, i.e. max no of transactions in flight. Default is 10.
+     * @param noOfAccounts no of accounts
+     * @return this generator
+     */
+    public LoadGenerator withAccounts(int noOfAccounts) {
+        if (noOfAccounts < 1)
+            throw new IllegalArgumentException("No of accounts should be at least 1");
+        this.noOfAccounts = noOfAccounts;
+        return this;
+    }
+
+    /**
+     * Add a transaction type to the mix. Types are picked randomly in proportion to their weights.
+     * Default is ada transfers only.
+     * @param txType transaction type
+     * @param weight relative weight
+     * @return this generator
+     */
+    public LoadGenerator withMix(@NonNull TxType txType, int weight) {
+        if (weight < 0)
+            throw new IllegalArgumentException("Weight can't be negative");
+        mix.put(txType, weight);
+        return this;
+    }
+
+    /**
+     * Set target submission rate. 0 (default) runs closed loop. The rate is best-effort and is bounded by the no of
+     * accounts, see {@link #withAccounts(int)}.
+     * @param targetTps transactions per second
+     * @return this generator
+     */
+    public LoadGenerator withTargetTps(double targetTps) {
+        if (targetTps < 0)
+            throw new IllegalArgumentException("Target tps can't be negative");
+        this.targetTps = targetTps;
+        return this;
+    }
+
+    /**
+     * Set how long new transactions are submitted. Default is 30 seconds.
+     * @param duration duration
+     * @return this generator
+     */
+    public LoadGenerator withDuration(@NonNull Duration duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    /**
+     * Stop after given no of transactions even if the duration is not over
+     * @param maxTransactions max no of transactions
+     * @return this generator
+     */
+    public LoadGenerator withMaxTransactions(int maxTransactions) {
+        if (maxTransactions < 1)
+            throw new IllegalArgumentException("Max transactions should be at least 1");
+        this.maxTransactions = maxTransactions;
+        return this;
+    }
+
+    /**
+     * Set ada amount transferred or locked per transaction. Default is 2 ADA.
+     * @param adaPerTx ada amount
+     * @return this generator
+     */
+    public LoadGenerator withAdaPerTx(@NonNull BigDecimal adaPerTx) {
+        this.adaPerTx = adaPerTx;
+        return this;
+    }
+
+    /**
+     * Set script used by {@link TxType#SCRIPT_LOCK}. Default is an always succeeds PlutusV2 script.
+     * @param lockScript script
+     * @return this generator
+     */
+    public LoadGenerator withLockScript(@NonNull PlutusScript lockScript) {
+        this.lockScript = lockScript;
+        return this;
+    }
+
+    /**
+     * Submit transactions until the duration is over or max transactions are submitted, then wait for the
+     * in-flight transactions.
+     * @return report
+     */
+    public LoadReport run() {
+        List<TxType> weightedTypes = weightedTypes();
+        String lockScriptAddress = AddressProvider.getEntAddress(lockScript, Networks.testnet()).toBech32();
+
+        BlockingQueue<Account> idleAccounts = new LinkedBlockingQueue<>();
+        for (int i = 0; i < noOfAccounts; i++) {
+            idleAccounts.add(testHelper.acquireTestAccount());
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(noOfAccounts, runnable -> {
+            Thread thread = new Thread(runnable, "yaci-load-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Run run = new Run();
+        Random random = new Random();
+        long intervalNanos = targetTps > 0 ? (long) (1_000_000_000L / targetTps) : 0;
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        long nextSlot = start;
+
+        log.info("Starting load with {} accounts, target tps: {}", noOfAccounts, targetTps > 0 ? targetTps : "closed loop");
+        try {
+            while (run.submitted.get() < maxTransactions) {
+                long scheduled;
+                if (intervalNanos > 0) {
+                    sleepUntil(Math.min(nextSlot, deadline));
+                    scheduled = nextSlot;
+                    nextSlot += intervalNanos;
+                } else {
+                    scheduled = System.nanoTime();
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0)
+                    break;
+
+                Account account = idleAccounts.poll(remaining, TimeUnit.NANOSECONDS);
+                if (account == null)
+                    break;
+
+                TxType txType = weightedTypes.get(random.nextInt(weightedTypes.size()));
+                run.start(txType);
+                executor.execute(() -> execute(txType, account, lockScriptAddress, scheduled, run,
+                        () -> idleAccounts.add(account)));
+            }
+
+            run.awaitCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating load", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LoadReport report = run.report(Duration.ofNanos(System.nanoTime() - start));
+        log.info("Load finished. {}", report);
+        return report;
+    }
+
+    /**
+     * Build and submit one transaction. Submit latency is measured from the scheduled send time.
+     */
+    private void execute(TxType txType, Account account, String lockScriptAddress, long scheduled, Run run,
+                         Runnable release) {
+        String txHash;
+        try {
+            Result<String> result = testHelper.buildAndSubmit(operation(txType), account.baseAddress(),
+                    txFactory(txType, account, lockScriptAddress));
+            if (!result.isSuccessful())
+                throw new IllegalStateException("Transaction submission failed : " + result.getResponse());
+            txHash = result.getValue();
+        } catch (Exception e) {
+            log.debug("{} transaction failed", txType, e);
+            run.failed();
+            release.run();
+            return;
+        }
+
+        long submitted = System.nanoTime();
+        run.submitLatencies.add(submitted - scheduled);
+
+        testHelper.getContainer().getTxConfirmationTracker().track(txHash)
+                .whenComplete((confirmation, throwable) -> {
+                    if (throwable != null) {
+                        log.debug("Transaction not confirmed : {}", txHash, throwable);
+                        run.failed();
+                    } else {
+                        run.confirmed(System.nanoTime() - submitted);
+                    }
+                    release.run();
+                });
+    }
+
+    private Function<UtxoSupplier, Transaction> txFactory(TxType txType, Account account, String lockScriptAddress)
+            throws Exception {
+        String sender = account.baseAddress();
+        switch (txType) {
+            case ADA_TRANSFER:
+                return utxoSupplier -> testHelper.buildTransferAdaTx(utxoSupplier, sender,
+                        signerFrom(account), sender, adaPerTx);
+            case MINT: {
+                Policy policy = PolicyUtil.createMultiSigScriptAllPolicy("LoadPolicy", 1);
+                return utxoSupplier -> testHelper.buildMintTokenTx(utxoSupplier, sender,
+                        signerFrom(account), sender, "LoadToken", BigInteger.valueOf(1000), policy);
+            }
+            case SCRIPT_LOCK: {
+                Value value = Value.builder().coin(adaToLovelace(adaPerTx)).build();
+                return utxoSupplier -> testHelper.buildLockFundTx(utxoSupplier, sender,
+                        signerFrom(account), lockScriptAddress, value, BigIntPlutusData.of(System.nanoTime()));
+            }
+            default:
+                throw new IllegalArgumentException("Invalid tx type : " + txType);
+        }
+    }
+
+    /**
+     * Trace operation name, same as the helper method sending this type of transaction
+     */
+    private static String operation(TxType txType) {
+        switch (txType) {
+            case ADA_TRANSFER:
+                return "transferAda";
+            case MINT:
+                return "mintToken";
+            case SCRIPT_LOCK:
+                return "lockFund";
+            default:
+                throw new IllegalArgumentException("Invalid tx type : " + txType);
+        }
+    }
+
+    private List<TxType> weightedTypes() {
+        List<TxType> types = new ArrayList<>();
+        Map<TxType, Integer> weights = mix.isEmpty() ? Map.of(TxType.ADA_TRANSFER, 1) : mix;
+        weights.forEach((txType, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                types.add(txType);
+            }
+        });
+        if (types.isEmpty())
+            throw new IllegalStateException("At least one tx type should have a weight greater than 0");
+        return types;
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long sleep = nanoTime - System.nanoTime();
+        if (sleep > 0)
+            TimeUnit.NANOSECONDS.sleep(sleep);
+    }
+
+    /**
+     * Counters of one {@link #run()}
+     */
+    private static class Run {
+        private final AtomicInteger submitted = new AtomicInteger();
+        private final AtomicInteger confirmed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final Map<TxType, AtomicInteger> submittedByType = new ConcurrentHashMap<>();
+        private final Queue<Long> submitLatencies = new ConcurrentLinkedQueue<>();
+        private final Queue<Long> confirmationLatencies = new ConcurrentLinkedQueue<>();
+        private final Object completion = new Object();
+
+        void start(TxType txType) {
+            submitted.incrementAndGet();
+            submittedByType.computeIfAbsent(txType, type -> new AtomicInteger()).incrementAndGet();
+        }
+
+        void confirmed(long latencyNanos) {
+            confirmationLatencies.add(latencyNanos);
+            confirmed.incrementAndGet();
+            done();
+        }
+
+        void failed() {
+            failed.incrementAndGet();
+            done();
+        }
+
+        private void done() {
+            synchronized (completion) {
+                completion.notifyAll();
+            }
+        }
+
+        /**
+         * Wait until every submitted transaction is confirmed or failed. Confirmations time out in the
+         * confirmation tracker, so this doesn't wait forever.
+         */
+        void awaitCompletion() throws InterruptedException {
+            synchronized (completion) {
+                while (confirmed.get() + failed.get() < submitted.get()) {
+                    completion.wait(1000);
+                }
+            }
+        }
+
+        LoadReport report(Duration elapsed) {
+            Map<TxType, Integer> byType = new EnumMap<>(TxType.class);
+            submittedByType.forEach((txType, count) -> byType.put(txType, count.get()));
+
+            return new LoadReport(elapsed, submitted.get(), confirmed.get(), failed.get(), byType,
+                    LatencyStats.of(toArray(submitLatencies)), LatencyStats.of(toArray(confirmationLatencies)));
+        }
+
+        private static long[] toArray(Queue<Long> values) {
+            return values.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Result of a {@link LoadGenerator} run
+ */
+@Getter
+@AllArgsConstructor
+public class LoadReport {
+    /**
+     * Time from the first submission until the last transaction is confirmed or failed
+     */
+    private final Duration elapsed;
+    private final int submitted;
+    private final int confirmed;
+    /**
+     * Transactions which failed to build, were rejected or were not confirmed in time
+     */
+    private final int failed;
+    private final Map<LoadGenerator.TxType, Integer> submittedByType;
+    /**
+     * Time from the scheduled send time until the transaction is submitted. Covers the wait for a free account,
+     * input selection, build, sign and submit.
+     */
+    private final LatencyStats submitLatency;
+    /**
+     * Time from submission until the transaction is seen on chain
+     */
+    private final LatencyStats confirmationLatency;
+
+    /**
+     * Returns confirmed transactions per second
+     * @return achieved tps
+     */
+    public double getTps() {
+        return elapsed.isZero() ? 0 : confirmed * 1_000_000_000.0 / elapsed.toNanos();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("submitted=%d, confirmed=%d, failed=%d, elapsed=%dms, tps=%.2f, mix=%s%n"
+                        + "  submit latency       : %s%n"
+                        + "  confirmation latency : %s",
+                submitted, confirmed, failed, elapsed.toMillis(), getTps(), submittedByType,
+                submitLatency, confirmationLatency);
+    }
+}
@@ -0,0 +1,163 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.api.util.AssetUtil;
+import com.bloxbean.cardano.client.transaction.spec.Asset;
+import com.bloxbean.cardano.client.transaction.spec.MultiAsset;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionOutput;
+import com.bloxbean.cardano.client.util.HexUtil;
+import lombok.NonNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
+
+/**
+ * {@link UtxoSupplier} which applies submitted but not yet confirmed transactions on top of the backend's utxo view.
+ * Inputs spent by pending transactions are hidden and their outputs are returned as available utxos, so that
+ * transactions can be built back-to-back without waiting for the previous one to be confirmed.
+ */
+class PendingTxUtxoSupplier implements UtxoSupplier {
+    private final Supplier<UtxoSupplier> delegateSupplier;
+    private final Map<String, PendingTx> pendingTxs = new ConcurrentHashMap<>();
+
+    PendingTxUtxoSupplier(@NonNull Supplier<UtxoSupplier> delegateSupplier) {
+        this.delegateSupplier = delegateSupplier;
+    }
+
+    /**
+     * Register a submitted transaction
+     * @param txHash transaction hash
+     * @param transaction submitted transaction
+     */
+    void register(@NonNull String txHash, @NonNull Transaction transaction) {
+        Set<String> spentInputs = transaction.getBody().getInputs().stream()
+                .map(input -> outRef(input.getTransactionId(), input.getIndex()))
+                .collect(Collectors.toSet());
+
+        List<TransactionOutput> outputs = transaction.getBody().getOutputs();
+        List<Utxo> utxos = new ArrayList<>(outputs.size());
+        for (int i = 0; i < outputs.size(); i++) {
+            utxos.add(toUtxo(txHash, i, outputs.get(i)));
+        }
+
+        pendingTxs.put(txHash, new PendingTx(spentInputs, utxos));
+    }
+
+    /**
+     * Remove a transaction once it is confirmed (or dropped). From now on, backend's view is used for it.
+     * @param txHash transaction hash
+     */
+    void release(@NonNull String txHash) {
+        pendingTxs.remove(txHash);
+    }
+
+    /**
+     * Remove all pending transactions
+     */
+    void clear() {
+        pendingTxs.clear();
+    }
+
+    @Override
+    public List<Utxo> getPage(String address, Integer nrOfItems, Integer page, OrderEnum order) {
+        List<Utxo> utxos = delegateSupplier.get().getPage(address, nrOfItems, page, order);
+        if (pendingTxs.isEmpty())
+            return utxos;
+
+        //Pending outputs are only added to the first page
+        return applyPending(address, utxos, page == null || page == 0);
+    }
+
+    @Override
+    public List<Utxo> getAll(String address) {
+        List<Utxo> utxos = delegateSupplier.get().getAll(address);
+        if (pendingTxs.isEmpty())
+            return utxos;
+
+        return applyPending(address, utxos, true);
+    }
+
+    @Override
+    public Optional<Utxo> getTxOutput(String txHash, int outputIndex) {
+        PendingTx pendingTx = pendingTxs.get(txHash);
+        if (pendingTx != null && outputIndex < pendingTx.outputs.size())
+            return Optional.of(pendingTx.outputs.get(outputIndex));
+
+        return delegateSupplier.get().getTxOutput(txHash, outputIndex);
+    }
+
+    private List<Utxo> applyPending(String address, List<Utxo> utxos, boolean addPendingOutputs) {
+        Set<String> spent = new HashSet<>();
+        List<Utxo> pendingOutputs = new ArrayList<>();
+        for (PendingTx pendingTx : pendingTxs.values()) {
+            spent.addAll(pendingTx.spentInputs);
+            if (addPendingOutputs) {
+                pendingTx.outputs.stream()
+                        .filter(utxo -> address.equals(utxo.getAddress()))
+                        .forEach(pendingOutputs::add);
+            }
+        }
+
+        List<Utxo> result = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        if (utxos != null) {
+            for (Utxo utxo : utxos) {
+                String outRef = outRef(utxo.getTxHash(), utxo.getOutputIndex());
+                if (!spent.contains(outRef) && seen.add(outRef))
+                    result.add(utxo);
+            }
+        }
+
+        //Output of a pending tx may already be visible in the backend
+        for (Utxo utxo : pendingOutputs) {
+            String outRef = outRef(utxo.getTxHash(), utxo.getOutputIndex());
+            if (!spent.contains(outRef) && seen.add(outRef))
+                result.add(utxo);
+        }
+
+        return result;
+    }
+
+    static Utxo toUtxo(String txHash, int index, TransactionOutput output) {
+        List<Amount> amounts = new ArrayList<>();
+        amounts.add(new Amount(LOVELACE, output.getValue().getCoin()));
+        if (output.getValue().getMultiAssets() != null) {
+            for (MultiAsset multiAsset : output.getValue().getMultiAssets()) {
+                for (Asset asset : multiAsset.getAssets()) {
+                    amounts.add(new Amount(AssetUtil.getUnit(multiAsset.getPolicyId(), asset), asset.getValue()));
+                }
+            }
+        }
+
+        return Utxo.builder()
+                .txHash(txHash)
+                .outputIndex(index)
+                .address(output.getAddress())
+                .amount(amounts)
+                .dataHash(output.getDatumHash() != null ? HexUtil.encodeHexString(output.getDatumHash()) : null)
+                .inlineDatum(output.getInlineDatum() != null ? output.getInlineDatum().serializeToHex() : null)
+                .build();
+    }
+
+    private static String outRef(String txHash, int index) {
+        return txHash + "#" + index;
+    }
+
+    private static class PendingTx {
+        private final Set<String> spentInputs;
+        private final List<Utxo> outputs;
+
+        PendingTx(Set<String> spentInputs, List<Utxo> outputs) {
+            this.spentInputs = spentInputs;
+            this.outputs = outputs;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.account.Account;
+import com.bloxbean.cardano.yaci.test.Funding;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Pool of funded accounts, one per test. Accounts funded at devnet start are handed out first. When the pool is
+ * empty, the next batch of accounts is funded from the faucet in one go.
+ * <p>
+ * An account is never handed out twice, as its utxos are spent by the test which acquired it.
+ */
+@Slf4j
+class TestAccountPool {
+    private final Queue<Account> available = new ConcurrentLinkedQueue<>();
+    private final IntFunction<Account> accountFactory;
+    private final Consumer<List<Funding>> funder;
+    private final int batchSize;
+    private final long adaValue;
+    private int nextIndex;
+
+    /**
+     * @param fundedAccounts accounts which are already funded
+     * @param accountFactory derives account for an index
+     * @param nextIndex index of the first account funded by this pool
+     * @param batchSize no of accounts funded together when the pool is empty
+     * @param adaValue ada per account
+     * @param funder funds given fundings and returns when they are on chain
+     */
+    TestAccountPool(Collection<Account> fundedAccounts, IntFunction<Account> accountFactory, int nextIndex,
+                    int batchSize, long adaValue, Consumer<List<Funding>> funder) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("Batch size should be at least 1");
+
+        this.available.addAll(fundedAccounts);
+        this.accountFactory = accountFactory;
+        this.nextIndex = nextIndex;
+        this.batchSize = batchSize;
+        this.adaValue = adaValue;
+        this.funder = funder;
+    }
+
+    /**
+     * Take a funded account. Blocks while a new batch is funded if the pool is empty.
+     * @return funded account
+     */
+    Account acquire() {
+        Account account = available.poll();
+        if (account != null)
+            return account;
+
+        synchronized (this) {
+            //Another thread may have funded a batch while this one was waiting
+            account = available.poll();
+            if (account != null)
+                return account;
+
+            List<Account> accounts = new ArrayList<>(batchSize);
+            List<Funding> fundings = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                Account newAccount = accountFactory.apply(nextIndex + i);
+                accounts.add(newAccount);
+                fundings.add(new Funding(newAccount.baseAddress(), adaValue));
+            }
+
+            log.info("Funding {} test accounts from index {}", batchSize, nextIndex);
+            funder.accept(fundings);
+            nextIndex += batchSize;
+
+            account = accounts.get(0);
+            available.addAll(accounts.subList(1, accounts.size()));
+            return account;
+        }
+    }
+
+    /**
+     * Returns no of funded accounts which are not handed out yet
+     * @return no of available accounts
+     */
+    int available() {
+        return available.size();
+    }
+}
@@ -3,20 +3,24 @@ package com.bloxbean.cardano.yaci.test.api.helper;
 import com.bloxbean.cardano.client.account.Account;
 import com.bloxbean.cardano.client.address.Address;
 import com.bloxbean.cardano.client.address.AddressProvider;
+import com.bloxbean.cardano.client.api.ProtocolParamsSupplier;
+import com.bloxbean.cardano.client.api.UtxoSupplier;
 import com.bloxbean.cardano.client.api.model.Amount;
 import com.bloxbean.cardano.client.api.model.Result;
 import com.bloxbean.cardano.client.api.model.Utxo;
 import com.bloxbean.cardano.client.api.util.AssetUtil;
 import com.bloxbean.cardano.client.api.util.PolicyUtil;
-import com.bloxbean.cardano.client.backend.model.TransactionContent;
 import com.bloxbean.cardano.client.common.model.Networks;
 import com.bloxbean.cardano.client.crypto.KeyGenUtil;
 import com.bloxbean.cardano.client.crypto.SecretKey;
 import com.bloxbean.cardano.client.crypto.VerificationKey;
 import com.bloxbean.cardano.client.crypto.bip32.key.HdPublicKey;
+import com.bloxbean.cardano.client.exception.CborSerializationException;
 import com.bloxbean.cardano.client.function.Output;
 import com.bloxbean.cardano.client.function.TxBuilder;
 import com.bloxbean.cardano.client.function.TxBuilderContext;
+import com.bloxbean.cardano.client.function.TxOutputBuilder;
+import com.bloxbean.cardano.client.function.TxSigner;
 import com.bloxbean.cardano.client.function.helper.MintCreators;
 import com.bloxbean.cardano.client.function.helper.OutputBuilders;
 import com.bloxbean.cardano.client.plutus.spec.PlutusData;
@@ -27,18 +31,31 @@ import com.bloxbean.cardano.client.transaction.spec.Policy;
 import com.bloxbean.cardano.client.transaction.spec.Transaction;
 import com.bloxbean.cardano.client.transaction.spec.TransactionOutput;
 import com.bloxbean.cardano.client.transaction.spec.Value;
-import com.bloxbean.cardano.client.util.JsonUtil;
+import com.bloxbean.cardano.yaci.test.Funding;
 import com.bloxbean.cardano.yaci.test.YaciCardanoContainer;
+import com.bloxbean.cardano.yaci.test.backend.CachingUtxoSupplier;
+import com.bloxbean.cardano.yaci.test.backend.TxConfirmation;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import static com.bloxbean.cardano.client.common.ADAConversionUtil.adaToLovelace;
 import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
@@ -57,16 +74,104 @@ class TransactionHelper {
     private SecretKey faucetSecretKey;
     private String faucetAddress;
 
+    //Estimated bytes per lovelace only output in addition to the address, and for inputs, witnesses and body fields
+    private static final int OUTPUT_OVERHEAD_BYTES = 16;
+    private static final int TX_OVERHEAD_BYTES = 2000;
+    private static final Duration FAUCET_RESERVE_TIMEOUT = Duration.ofSeconds(60);
+
+    public static final int DEFAULT_FAUCET_POOL_SIZE = 20;
+    public static final int DEFAULT_TEST_ACCOUNT_BATCH_SIZE = 10;
+    public static final long DEFAULT_TEST_ACCOUNT_ADA = 1000;
+    //Faucet utxos are not split below this amount
+    private static final BigDecimal MIN_FAUCET_POOL_UTXO_ADA = BigDecimal.valueOf(1000);
+
+    private final PendingTxUtxoSupplier pendingUtxoSupplier;
+    //Inputs can only collide between transactions of the same sender
+    private final Map<String, Object> senderLocks = new ConcurrentHashMap<>();
+    private final Object faucetPoolLock = new Object();
+    private int faucetPoolSize = DEFAULT_FAUCET_POOL_SIZE;
+    private volatile FaucetUtxoPool faucetPool;
+    private final TxTracer txTracer = new TxTracer();
+    private final ThreadLocal<TxTraceRecorder> currentTrace = new ThreadLocal<>();
+    private final Object testAccountPoolLock = new Object();
+    private TestAccountPool testAccountPool;
+    private ExecutorService submitExecutor;
+
     public TransactionHelper(YaciCardanoContainer yaciCardanoContainer) {
         this.yaciCardanoContainer = yaciCardanoContainer;
         this.faucetSecretKey = new SecretKey(sk);
         this.faucetAddress = getAddress(faucetSecretKey);
+        this.pendingUtxoSupplier = new PendingTxUtxoSupplier(yaciCardanoContainer::getUtxoSupplier);
     }
 
     public String getFaucetAddress() {
         return faucetAddress;
     }
 
+    /**
+     * Returns per phase timings of the transactions built and submitted by this helper
+     * @return tracer
+     */
+    public TxTracer getTxTracer() {
+        return txTracer;
+    }
+
+    YaciCardanoContainer getContainer() {
+        return yaciCardanoContainer;
+    }
+
+    /**
+     * Set no of utxos the faucet balance is split into, so that many transactions can be built from the faucet
+     * concurrently. Should be set before the first faucet transaction.
+     * @param faucetPoolSize no of faucet utxos
+     */
+    public void setFaucetPoolSize(int faucetPoolSize) {
+        if (faucetPoolSize < 1)
+            throw new IllegalArgumentException("Faucet pool size should be at least 1");
+        this.faucetPoolSize = faucetPoolSize;
+    }
+
+    /**
+     * Drop state derived from the current chain, i.e. faucet utxo pool and pending transactions.
+     * Used when the devnet is reset.
+     */
+    public void reset() {
+        synchronized (faucetPoolLock) {
+            faucetPool = null;
+        }
+        synchronized (testAccountPoolLock) {
+            testAccountPool = null;
+        }
+        pendingUtxoSupplier.clear();
+    }
+
+    /**
+     * Returns a funded account which is not handed out to any other caller, so that tests running in parallel
+     * don't share utxos. Accounts funded at devnet start through {@link YaciCardanoContainer#withTestAccounts(int, long)}
+     * are used first. After that, accounts are funded from the faucet in batches.
+     *
+     * @return funded account
+     * @throws IllegalStateException if a new batch of accounts can't be funded
+     */
+    public Account acquireTestAccount() {
+        return testAccountPool().acquire();
+    }
+
+    private TestAccountPool testAccountPool() {
+        synchronized (testAccountPoolLock) {
+            if (testAccountPool == null) {
+                List<Account> fundedAccounts = yaciCardanoContainer.getTestAccounts();
+                int batchSize = Math.max(fundedAccounts.size(), DEFAULT_TEST_ACCOUNT_BATCH_SIZE);
+                long adaValue = yaciCardanoContainer.getTestAccountAdaValue() > 0
+                        ? yaciCardanoContainer.getTestAccountAdaValue() : DEFAULT_TEST_ACCOUNT_ADA;
+                testAccountPool = new TestAccountPool(fundedAccounts, yaciCardanoContainer::testAccount,
+                        YaciCardanoContainer.TEST_ACCOUNT_START_INDEX + fundedAccounts.size(), batchSize, adaValue,
+                        this::transferAda);
+            }
+            return testAccountPool;
+        }
+    }
+
     /**
      * Transfer ADA from faucet address to given address
      * @param address receiver address
@@ -84,20 +189,182 @@ class TransactionHelper {
      * @return transaction hash
      */
     public Optional<String> transferAda(String address, BigDecimal ada) {
+        return submitTx("transferAda", faucetAddress, utxoSupplier -> buildTransferAdaTx(utxoSupplier, address, ada));
+    }
+
+    /**
+     * Transfer ADA from faucet address to given address without waiting for confirmation
+     * @param address receiver address
+     * @param ada amount in ADA
+     * @return future with transaction hash, completed when the transaction is on chain
+     */
+    public CompletableFuture<String> transferAdaAsync(String address, double ada) {
+        return transferAdaAsync(address, BigDecimal.valueOf(ada));
+    }
+
+    /**
+     * Transfer ADA from faucet address to given address without waiting for confirmation
+     * @param address receiver address
+     * @param ada amount in ADA
+     * @return future with transaction hash, completed when the transaction is on chain
+     */
+    public CompletableFuture<String> transferAdaAsync(String address, BigDecimal ada) {
+        return submitTxAsync("transferAda", faucetAddress, utxoSupplier -> buildTransferAdaTx(utxoSupplier, address, ada));
+    }
+
+    /**
+     * Transfer ADA from faucet address to multiple addresses. Outputs are packed into as few transactions as
+     * allowed by protocol's max tx size. All transactions are submitted back-to-back and confirmed together.
+     * @param receivers receiver address to amount in ADA
+     * @return transaction hashes
+     * @throws IllegalStateException if a transaction can't be submitted or confirmed
+     */
+    public List<String> transferAda(@NonNull Map<String, BigDecimal> receivers) {
+        List<String> txHashes = submitMultiTransfer(receivers);
+        txHashes.forEach(this::waitForTransaction);
+        return txHashes;
+    }
+
+    /**
+     * Transfer ADA from faucet address to the addresses in given fundings. Outputs are packed into as few
+     * transactions as allowed by protocol's max tx size. All transactions are submitted back-to-back and confirmed together.
+     * @param fundings list of fundings
+     * @return transaction hashes
+     * @throws IllegalStateException if a transaction can't be submitted or confirmed
+     */
+    public List<String> transferAda(@NonNull List<Funding> fundings) {
+        return transferAda(toReceivers(fundings));
+    }
+
+    /**
+     * Transfer ADA from faucet address to multiple addresses without waiting for confirmation.
+     * @param receivers receiver address to amount in ADA
+     * @return future with transaction hashes, completed when all transactions are on chain
+     */
+    public CompletableFuture<List<String>> transferAdaAsync(@NonNull Map<String, BigDecimal> receivers) {
+        return CompletableFuture.supplyAsync(() -> submitMultiTransfer(receivers), submitExecutor())
+                .thenCompose(txHashes -> {
+                    CompletableFuture<?>[] confirmations = txHashes.stream()
+                            .map(txHash -> yaciCardanoContainer.getTxConfirmationTracker().track(txHash))
+                            .toArray(CompletableFuture[]::new);
+                    return CompletableFuture.allOf(confirmations).thenApply(v -> txHashes);
+                });
+    }
+
+    /**
+     * Transfer ADA from faucet address to the addresses in given fundings without waiting for confirmation.
+     * @param fundings list of fundings
+     * @return future with transaction hashes, completed when all transactions are on chain
+     */
+    public CompletableFuture<List<String>> transferAdaAsync(@NonNull List<Funding> fundings) {
+        return transferAdaAsync(toReceivers(fundings));
+    }
+
+    private static Map<String, BigDecimal> toReceivers(List<Funding> fundings) {
+        Map<String, BigDecimal> receivers = new LinkedHashMap<>();
+        for (Funding funding : fundings) {
+            receivers.merge(funding.getAddress(), BigDecimal.valueOf(funding.getAdaValue()), BigDecimal::add);
+        }
+        return receivers;
+    }
+
+    private List<String> submitMultiTransfer(Map<String, BigDecimal> receivers) {
+        int maxTxSize = yaciCardanoContainer.getProtocolParamsSupplier().getProtocolParams().getMaxTxSize();
+
+        //Bech32 / Base58 string is longer than the address bytes, so string length is a safe estimate
+        List<List<Output>> chunks = new ArrayList<>();
+        List<Output> chunk = new ArrayList<>();
+        int chunkSize = 0;
+        for (Map.Entry<String, BigDecimal> receiver : receivers.entrySet()) {
+            int outputSize = receiver.getKey().length() + OUTPUT_OVERHEAD_BYTES;
+            if (!chunk.isEmpty() && chunkSize + outputSize > maxTxSize - TX_OVERHEAD_BYTES) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                chunkSize = 0;
+            }
+
+            chunk.add(Output.builder()
+                    .address(receiver.getKey())
+                    .assetName(LOVELACE)
+                    .qty(adaToLovelace(receiver.getValue()))
+                    .build());
+            chunkSize += outputSize;
+        }
+        if (!chunk.isEmpty())
+            chunks.add(chunk);
+
+        List<String> txHashes = new ArrayList<>();
+        for (List<Output> outputs : chunks) {
+            submitMultiTransferChunk(outputs, maxTxSize, txHashes);
+        }
+
+        log.info("{} outputs submitted in {} transactions", receivers.size(), txHashes.size());
+        return txHashes;
+    }
+
+    private void submitMultiTransferChunk(List<Output> outputs, int maxTxSize, List<String> txHashes) {
+        Result<String> result;
+        try {
+            result = buildAndSubmit("transferAda", faucetAddress, utxoSupplier -> {
+                Transaction transaction = buildMultiTransferTx(utxoSupplier, outputs);
+                if (outputs.size() > 1 && serializedSize(transaction) > maxTxSize)
+                    throw new TxSizeExceededException();
+                return transaction;
+            });
+        } catch (TxSizeExceededException e) {
+            //Estimate was too optimistic. Split and try again
+            int mid = outputs.size() / 2;
+            submitMultiTransferChunk(outputs.subList(0, mid), maxTxSize, txHashes);
+            submitMultiTransferChunk(outputs.subList(mid, outputs.size()), maxTxSize, txHashes);
+            return;
+        }
+
+        if (!result.isSuccessful())
+            throw new IllegalStateException("Transaction submission failed : " + result.getResponse());
+
+        txHashes.add(result.getValue());
+    }
+
+    private Transaction buildMultiTransferTx(UtxoSupplier utxoSupplier, List<Output> outputs) {
+        TxOutputBuilder outputBuilder = outputs.get(0).outputBuilder();
+        for (int i = 1; i < outputs.size(); i++) {
+            outputBuilder = outputBuilder.and(outputs.get(i).outputBuilder());
+        }
+
+        TxBuilder txBuilder = outputBuilder
+                .buildInputs(createFromSender(faucetAddress, faucetAddress))
+                .andThen(balanceTx(faucetAddress));
+
+        return TxBuilderContext.init(utxoSupplier, protocolParamsSupplier())
+                .buildAndSign(txBuilder, signerFrom(faucetSecretKey));
+    }
+
+    private static int serializedSize(Transaction transaction) {
+        try {
+            return transaction.serialize().length;
+        } catch (CborSerializationException e) {
+            throw new IllegalStateException("Error while serializing transaction", e);
+        }
+    }
+
+    private Transaction buildTransferAdaTx(UtxoSupplier utxoSupplier, String address, BigDecimal ada) {
+        return buildTransferAdaTx(utxoSupplier, faucetAddress, signerFrom(faucetSecretKey), address, ada);
+    }
+
+    Transaction buildTransferAdaTx(UtxoSupplier utxoSupplier, String senderAddress, TxSigner signer,
+                                   String receiver, BigDecimal ada) {
         Output output = Output.builder()
-                .address(address)
+                .address(receiver)
                 .assetName(LOVELACE)
                 .qty(adaToLovelace(ada))
                 .build();
 
         TxBuilder txBuilder = output.outputBuilder()
-                .buildInputs(createFromSender(faucetAddress, faucetAddress))
-                .andThen(balanceTx(faucetAddress));
-
-        Transaction transaction = TxBuilderContext.init(yaciCardanoContainer.getUtxoSupplier(), yaciCardanoContainer.getProtocolParamsSupplier())
-                .buildAndSign(txBuilder, signerFrom(faucetSecretKey));
+                .buildInputs(createFromSender(senderAddress, senderAddress))
+                .andThen(balanceTx(senderAddress));
 
-        return submitTx(transaction);
+        return TxBuilderContext.init(utxoSupplier, protocolParamsSupplier())
+                .buildAndSign(txBuilder, signer);
     }
 
     /**
@@ -132,28 +399,7 @@ class TransactionHelper {
         try {
             Policy policy = PolicyUtil.createMultiSigScriptAllPolicy("TestPolicy", 1);
 
-            MultiAsset multiAsset = MultiAsset.builder()
-                    .policyId(policy.getPolicyId())
-                    .assets(Arrays.asList(new Asset(tokenName, amount)))
-                    .build();
-
-            Output output = Output.builder()
-                    .address(receiver)
-                    .policyId(policy.getPolicyId())
-                    .assetName(tokenName)
-                    .qty(amount)
-                    .build();
-
-            TxBuilder txBuilder = output.mintOutputBuilder()
-                    .buildInputs(createFromSender(faucetAddress, faucetAddress))
-                    .andThen(MintCreators.mintCreator(policy.getPolicyScript(), multiAsset))
-                    .andThen(balanceTxWithAdditionalSigners(faucetAddress, 1));
-
-            Transaction transaction = TxBuilderContext.init(yaciCardanoContainer.getUtxoSupplier(), yaciCardanoContainer.getProtocolParamsSupplier())
-                    .buildAndSign(txBuilder, signerFrom(faucetSecretKey)
-                            .andThen(signerFrom(policy.getPolicyKeys().get(0))));
-
-            submitTx(transaction);
+            submitTx("mintToken", faucetAddress, utxoSupplier -> buildMintTokenTx(utxoSupplier, receiver, tokenName, amount, policy));
             return Optional.of(policy);
         } catch (Exception e) {
             log.error("Error while minting token", e);
@@ -161,6 +407,65 @@ class TransactionHelper {
         }
     }
 
+    /**
+     * Mint a token using faucet account and send to faucet address without waiting for confirmation
+     * @param tokenName Token name
+     * @param amount token amount
+     * @return future with policy, completed when the transaction is on chain
+     */
+    public CompletableFuture<Policy> mintTokenAsync(String tokenName, long amount) {
+        return mintTokenAsync(getFaucetAddress(), tokenName, BigInteger.valueOf(amount));
+    }
+
+    /**
+     * Mint a token using faucet account and transfer the minted token to the receiver address without waiting
+     * for confirmation
+     * @param receiver receiver address
+     * @param tokenName token name
+     * @param amount amount of token
+     * @return future with policy, completed when the transaction is on chain
+     */
+    public CompletableFuture<Policy> mintTokenAsync(String receiver, String tokenName, BigInteger amount) {
+        Policy policy;
+        try {
+            policy = PolicyUtil.createMultiSigScriptAllPolicy("TestPolicy", 1);
+        } catch (CborSerializationException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return submitTxAsync("mintToken", faucetAddress, utxoSupplier -> buildMintTokenTx(utxoSupplier, receiver, tokenName, amount, policy))
+                .thenApply(txHash -> policy);
+    }
+
+    private Transaction buildMintTokenTx(UtxoSupplier utxoSupplier, String receiver, String tokenName,
+                                         BigInteger amount, Policy policy) {
+        return buildMintTokenTx(utxoSupplier, faucetAddress, signerFrom(faucetSecretKey), receiver, tokenName,
+                amount, policy);
+    }
+
+    Transaction buildMintTokenTx(UtxoSupplier utxoSupplier, String senderAddress, TxSigner signer, String receiver,
+                                 String tokenName, BigInteger amount, Policy policy) {
+        MultiAsset multiAsset = MultiAsset.builder()
+                .policyId(policy.getPolicyId())
+                .assets(Arrays.asList(new Asset(tokenName, amount)))
+                .build();
+
+        Output output = Output.builder()
+                .address(receiver)
+                .policyId(policy.getPolicyId())
+                .assetName(tokenName)
+                .qty(amount)
+                .build();
+
+        TxBuilder txBuilder = output.mintOutputBuilder()
+                .buildInputs(createFromSender(senderAddress, senderAddress))
+                .andThen(MintCreators.mintCreator(policy.getPolicyScript(), multiAsset))
+                .andThen(balanceTxWithAdditionalSigners(senderAddress, 1));
+
+        return TxBuilderContext.init(utxoSupplier, protocolParamsSupplier())
+                .buildAndSign(txBuilder, signer.andThen(signerFrom(policy.getPolicyKeys().get(0))));
+    }
+
     /**
      * Lock fund in a script address from a sender account
      * @param senderAccount Sender account
@@ -214,21 +519,37 @@ class TransactionHelper {
     public Optional<String> lockFund(@NonNull Account senderAccount, @NonNull String receiverScript,
                                      @NonNull Value value, PlutusData inlineDatum) {
         String senderAddress = senderAccount.baseAddress();
-        TransactionOutput txOutput = TransactionOutput.builder()
-                .address(receiverScript)
-                .value(value)
-                .inlineDatum(inlineDatum)
-                .build();
-
-        TxBuilder txBuilder = OutputBuilders.createFromOutput(txOutput)
-                .buildInputs(createFromSender(senderAddress, senderAddress))
-                .andThen(balanceTx(senderAddress, 1));
+        return submitTx("lockFund", senderAddress, utxoSupplier -> buildLockFundTx(utxoSupplier, senderAddress,
+                signerFrom(senderAccount), receiverScript, value, inlineDatum));
+    }
 
-        Transaction transaction = TxBuilderContext.init(yaciCardanoContainer.getUtxoSupplier(),
-                        yaciCardanoContainer.getProtocolParamsSupplier())
-                .buildAndSign(txBuilder, signerFrom(senderAccount));
+    /**
+     * Lock fund in a script address from a sender account without waiting for confirmation
+     * @param senderAccount Sender account
+     * @param receiverScript Receiving plutus script
+     * @param value Value to lock
+     * @param inlineDatum Datum in the output
+     * @return future with transaction hash, completed when the transaction is on chain
+     */
+    public CompletableFuture<String> lockFundAsync(@NonNull Account senderAccount, @NonNull PlutusScript receiverScript,
+                                                   @NonNull Value value, PlutusData inlineDatum) {
+        String scriptAddress = AddressProvider.getEntAddress(receiverScript, Networks.testnet()).toBech32();
+        return lockFundAsync(senderAccount, scriptAddress, value, inlineDatum);
+    }
 
-        return submitTx(transaction);
+    /**
+     * Lock fund in a script address from a sender account without waiting for confirmation
+     * @param senderAccount Sender account
+     * @param receiverScript Receiving script address
+     * @param value Value to lock
+     * @param inlineDatum Datum in the output
+     * @return future with transaction hash, completed when the transaction is on chain
+     */
+    public CompletableFuture<String> lockFundAsync(@NonNull Account senderAccount, @NonNull String receiverScript,
+                                                   @NonNull Value value, PlutusData inlineDatum) {
+        String senderAddress = senderAccount.baseAddress();
+        return submitTxAsync("lockFund", senderAddress, utxoSupplier -> buildLockFundTx(utxoSupplier, senderAddress,
+                signerFrom(senderAccount), receiverScript, value, inlineDatum));
     }
 
     /**
@@ -280,6 +601,38 @@ class TransactionHelper {
      */
     public Optional<String> lockFund(@NonNull String receiverScript,
                                      @NonNull Value value, PlutusData inlineDatum) {
+        return submitTx("lockFund", faucetAddress, utxoSupplier -> buildLockFundTx(utxoSupplier, faucetAddress,
+                signerFrom(faucetSecretKey), receiverScript, value, inlineDatum));
+    }
+
+    /**
+     * Lock fund in a script address from faucet account without waiting for confirmation
+     * @param receiverScript Receiving plutus script
+     * @param value Value to lock
+     * @param inlineDatum Datum in the output
+     * @return future with transaction hash, completed when the transaction is on chain
+     */
+    public CompletableFuture<String> lockFundAsync(@NonNull PlutusScript receiverScript,
+                                                   @NonNull Value value, PlutusData inlineDatum) {
+        String scriptAddress = AddressProvider.getEntAddress(receiverScript, Networks.testnet()).toBech32();
+        return lockFundAsync(scriptAddress, value, inlineDatum);
+    }
+
+    /**
+     * Lock fund in a script address from faucet account without waiting for confirmation
+     * @param receiverScript Receiving script address
+     * @param value Value to lock
+     * @param inlineDatum Datum in the output
+     * @return future with transaction hash, completed when the transaction is on chain
+     */
+    public CompletableFuture<String> lockFundAsync(@NonNull String receiverScript,
+                                                   @NonNull Value value, PlutusData inlineDatum) {
+        return submitTxAsync("lockFund", faucetAddress, utxoSupplier -> buildLockFundTx(utxoSupplier, faucetAddress,
+                signerFrom(faucetSecretKey), receiverScript, value, inlineDatum));
+    }
+
+    Transaction buildLockFundTx(UtxoSupplier utxoSupplier, String senderAddress, TxSigner signer,
+                                String receiverScript, Value value, PlutusData inlineDatum) {
         TransactionOutput txOutput = TransactionOutput.builder()
                 .address(receiverScript)
                 .value(value)
@@ -287,14 +640,11 @@ class TransactionHelper {
                 .build();
 
         TxBuilder txBuilder = OutputBuilders.createFromOutput(txOutput)
-                .buildInputs(createFromSender(faucetAddress, faucetAddress))
-                .andThen(balanceTx(faucetAddress, 1));
-
-        Transaction transaction = TxBuilderContext.init(yaciCardanoContainer.getUtxoSupplier(),
-                        yaciCardanoContainer.getProtocolParamsSupplier())
-                .buildAndSign(txBuilder, signerFrom(faucetSecretKey));
+                .buildInputs(createFromSender(senderAddress, senderAddress))
+                .andThen(balanceTx(senderAddress, 1));
 
-        return submitTx(transaction);
+        return TxBuilderContext.init(utxoSupplier, protocolParamsSupplier())
+                .buildAndSign(txBuilder, signer);
     }
 
     /**
@@ -304,8 +654,34 @@ class TransactionHelper {
      * @return Reference script output (utxo) from this transaction
      */
     public Optional<Utxo> createReferenceScriptTx(PlutusScript referenceScript, double ada) {
-        Account account = new Account(Networks.testnet());
-        String receiverAddress = account.baseAddress();
+        String receiverAddress = new Account(Networks.testnet()).baseAddress();
+
+        Optional<String> txHash = submitTx("createReferenceScriptTx", faucetAddress,
+                utxoSupplier -> buildReferenceScriptTx(utxoSupplier, receiverAddress, referenceScript, ada));
+        if (txHash.isPresent()) {
+            return findReferenceScriptUtxo(receiverAddress, txHash.get());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Create a transaction with a reference script in output without waiting for confirmation
+     * @param referenceScript reference script
+     * @param ada amount of ada to send
+     * @return future with reference script output (utxo), completed when the transaction is on chain
+     */
+    public CompletableFuture<Utxo> createReferenceScriptTxAsync(PlutusScript referenceScript, double ada) {
+        String receiverAddress = new Account(Networks.testnet()).baseAddress();
+
+        return submitTxAsync("createReferenceScriptTx", faucetAddress,
+                        utxoSupplier -> buildReferenceScriptTx(utxoSupplier, receiverAddress, referenceScript, ada))
+                .thenApply(txHash -> findReferenceScriptUtxo(receiverAddress, txHash)
+                        .orElseThrow(() -> new IllegalStateException("Reference script output not found : " + txHash)));
+    }
+
+    private Transaction buildReferenceScriptTx(UtxoSupplier utxoSupplier, String receiverAddress,
+                                               PlutusScript referenceScript, double ada) {
         Output output = Output.builder()
                 .address(receiverAddress)
                 .assetName(LOVELACE)
@@ -317,23 +693,23 @@ class TransactionHelper {
                 .buildInputs(createFromSender(faucetAddress, faucetAddress))
                 .andThen(balanceTx(faucetAddress));
 
-        Transaction transaction = TxBuilderContext.init(yaciCardanoContainer.getUtxoSupplier(), yaciCardanoContainer.getProtocolParamsSupplier())
+        return TxBuilderContext.init(utxoSupplier, protocolParamsSupplier())
                 .buildAndSign(txBuilder, signerFrom(faucetSecretKey));
+    }
 
-        Optional<String> txHash = submitTx(transaction);
-        if (txHash.isPresent()) {
-            return yaciCardanoContainer.getUtxoSupplier()
-                    .getAll(receiverAddress)
-                    .stream()
-                    .filter(utxo -> utxo.getTxHash().equals(txHash.get()) && utxo.getOutputIndex() == 0)
-                    .findFirst();
-        } else {
-            return Optional.empty();
-        }
+    private Optional<Utxo> findReferenceScriptUtxo(String receiverAddress, String txHash) {
+        return yaciCardanoContainer.getUtxoSupplier()
+                .getAll(receiverAddress)
+                .stream()
+                .filter(utxo -> utxo.getTxHash().equals(txHash) && utxo.getOutputIndex() == 0)
+                .findFirst();
+    }
+
+    private static class TxSizeExceededException extends RuntimeException {
     }
 
     @NotNull
-    private static Value getValue(@NotNull List<Amount> amounts) {
+    static Value getValue(@NotNull List<Amount> amounts) {
         Value value = new Value();
         List<MultiAsset> multiAssets = new ArrayList<>();
         for (Amount amount : amounts) {
@@ -350,6 +726,120 @@ class TransactionHelper {
 
     @NotNull
     public Optional<String> submitTx(Transaction transaction) {
+        return submitTx("submitTx", null, utxoSupplier -> transaction);
+    }
+
+    /**
+     * Submit a transaction without waiting for confirmation
+     * @param transaction signed transaction
+     * @return future with transaction hash, completed when the transaction is on chain
+     */
+    public CompletableFuture<String> submitTxAsync(@NonNull Transaction transaction) {
+        return submitTxAsync("submitTx", null, utxoSupplier -> transaction);
+    }
+
+    private Optional<String> submitTx(String operation, String senderAddress, Function<UtxoSupplier, Transaction> txFactory) {
+        Result<String> result = buildAndSubmit(operation, senderAddress, txFactory);
+
+        if (result.isSuccessful()) {
+            log.info("Transaction submitted successfully");
+            waitForTransactionHash(result);
+            log.info("Transaction hash: " + result.getValue());
+            return Optional.of(result.getValue());
+        } else {
+            log.info("Transaction submission failed : " + result.getResponse());
+            return Optional.empty();
+        }
+    }
+
+    private CompletableFuture<String> submitTxAsync(String operation, String senderAddress,
+                                                    Function<UtxoSupplier, Transaction> txFactory) {
+        return CompletableFuture.supplyAsync(() -> {
+                    Result<String> result = buildAndSubmit(operation, senderAddress, txFactory);
+                    if (!result.isSuccessful())
+                        throw new IllegalStateException("Transaction submission failed : " + result.getResponse());
+                    return result.getValue();
+                }, submitExecutor())
+                .thenCompose(txHash -> yaciCardanoContainer.getTxConfirmationTracker().track(txHash))
+                .thenApply(TxConfirmation::getTxHash);
+    }
+
+    /**
+     * Build and submit a transaction and record its {@link TxTrace} when it is confirmed or has failed
+     */
+    Result<String> buildAndSubmit(String operation, String senderAddress, Function<UtxoSupplier, Transaction> txFactory) {
+        if (!txTracer.isEnabled())
+            return buildAndSubmit(senderAddress, txFactory, this::submitTransaction);
+
+        TxTraceRecorder trace = new TxTraceRecorder(operation);
+        Function<UtxoSupplier, Transaction> tracedFactory = utxoSupplier -> {
+            currentTrace.set(trace);
+            try {
+                return trace.build(() -> txFactory.apply(trace.utxoSupplier(utxoSupplier)));
+            } finally {
+                currentTrace.remove();
+            }
+        };
+
+        Result<String> result;
+        try {
+            result = buildAndSubmit(senderAddress, tracedFactory,
+                    transaction -> trace.submit(transaction, this::submitTransaction));
+        } catch (TxSizeExceededException e) {
+            //Not a failure. The caller splits the transaction.
+            throw e;
+        } catch (RuntimeException e) {
+            txTracer.add(trace.failed(e.toString()));
+            throw e;
+        }
+
+        if (!result.isSuccessful()) {
+            txTracer.add(trace.failed(result.getResponse()));
+            return result;
+        }
+
+        yaciCardanoContainer.getTxConfirmationTracker().track(result.getValue())
+                .whenComplete((confirmation, throwable) -> txTracer.add(throwable == null
+                        ? trace.confirmed(confirmation) : trace.failed("Not confirmed : " + throwable)));
+        return result;
+    }
+
+    /**
+     * Build and submit a transaction. Faucet transactions are built from reserved faucet utxos and can run
+     * concurrently. Other transactions are built and submitted under a lock per sender, so that the sender's next
+     * transaction is built only after this one is registered as pending and doesn't pick the same inputs.
+     * Transactions of different senders run in parallel.
+     */
+    private Result<String> buildAndSubmit(String senderAddress, Function<UtxoSupplier, Transaction> txFactory,
+                                          Function<Transaction, Result<String>> submitter) {
+        if (faucetAddress.equals(senderAddress))
+            return faucetPool().submit(txFactory, submitter);
+
+        synchronized (senderLock(senderAddress)) {
+            return submitter.apply(txFactory.apply(pendingUtxoSupplier));
+        }
+    }
+
+    /**
+     * Lock for a sender address. Pre-built transactions without a known sender share one lock.
+     */
+    private Object senderLock(String senderAddress) {
+        return senderLocks.computeIfAbsent(senderAddress != null ? senderAddress : "", address -> new Object());
+    }
+
+    /**
+     * Protocol params supplier for the transaction builders. Time spent in it is added to the current trace.
+     */
+    private ProtocolParamsSupplier protocolParamsSupplier() {
+        ProtocolParamsSupplier protocolParamsSupplier = yaciCardanoContainer.getProtocolParamsSupplier();
+        TxTraceRecorder trace = currentTrace.get();
+        return trace != null ? trace.protocolParamsSupplier(protocolParamsSupplier) : protocolParamsSupplier;
+    }
+
+    /**
+     * Submit a built transaction. Its inputs are pending until the transaction is confirmed or times out.
+     */
+    Result<String> submitTransaction(Transaction transaction) {
         Result<String> result;
         try {
             result = yaciCardanoContainer.getTransactionService().submitTransaction(transaction.serialize());
@@ -358,35 +848,125 @@ class TransactionHelper {
         }
 
         if (result.isSuccessful()) {
-            log.info("Transaction submitted successfully");
+            String txHash = result.getValue();
+            pendingUtxoSupplier.register(txHash, transaction);
+            CachingUtxoSupplier utxoCache = yaciCardanoContainer.getUtxoCache();
+            utxoCache.register(txHash, transaction);
+            yaciCardanoContainer.getTxConfirmationTracker().track(txHash)
+                    .whenComplete((confirmation, throwable) -> {
+                        pendingUtxoSupplier.release(txHash);
+                        utxoCache.release(txHash);
+                        FaucetUtxoPool pool = faucetPool;
+                        if (pool != null) {
+                            pool.completed(txHash);
+                            //Not dropped, the tracker was closed. The container may be stopping, so don't reload.
+                            if (throwable != null && !isCancelled(throwable))
+                                pool.resync();
+                        }
+                    });
+        }
+
+        return result;
+    }
+
+    private static boolean isCancelled(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        return cause instanceof CancellationException;
+    }
+
+    /**
+     * Returns the faucet utxo pool. On first call, faucet balance is split into {@link #faucetPoolSize} utxos.
+     */
+    private FaucetUtxoPool faucetPool() {
+        FaucetUtxoPool pool = faucetPool;
+        if (pool != null)
+            return pool;
+
+        synchronized (faucetPoolLock) {
+            if (faucetPool == null) {
+                splitFaucetUtxos();
+                faucetPool = new FaucetUtxoPool(faucetAddress, pendingUtxoSupplier, FAUCET_RESERVE_TIMEOUT);
+            }
+            return faucetPool;
+        }
+    }
+
+    private void splitFaucetUtxos() {
+        List<Utxo> utxos = pendingUtxoSupplier.getAll(faucetAddress);
+        int noOfSplits = faucetPoolSize - (utxos != null ? utxos.size() : 0);
+        if (noOfSplits <= 0)
+            return;
+
+        BigInteger balance = utxos.stream()
+                .flatMap(utxo -> utxo.getAmount().stream())
+                .filter(amount -> LOVELACE.equals(amount.getUnit()))
+                .map(Amount::getQuantity)
+                .reduce(BigInteger.ZERO, BigInteger::add);
+
+        //Keep half of the balance in change, so that large transfers can still be done
+        BigInteger splitAmount = balance.divide(BigInteger.valueOf(2L * faucetPoolSize));
+        if (splitAmount.compareTo(adaToLovelace(MIN_FAUCET_POOL_UTXO_ADA)) < 0) {
+            log.info("Faucet balance is too low to split into {} utxos", faucetPoolSize);
+            return;
+        }
+
+        List<Output> outputs = new ArrayList<>();
+        for (int i = 0; i < noOfSplits; i++) {
+            outputs.add(Output.builder()
+                    .address(faucetAddress)
+                    .assetName(LOVELACE)
+                    .qty(splitAmount)
+                    .build());
+        }
+
+        Result<String> result;
+        synchronized (senderLock(faucetAddress)) {
+            result = submitTransaction(buildMultiTransferTx(pendingUtxoSupplier, outputs));
+        }
+
+        if (result.isSuccessful()) {
             waitForTransactionHash(result);
-            log.info("Transaction hash: " + result.getValue());
-            return Optional.of(result.getValue());
+            log.info("Faucet balance split into {} utxos", faucetPoolSize);
         } else {
-            log.info("Transaction submission failed");
-            return Optional.empty();
+            log.warn("Faucet utxos could not be split : " + result.getResponse());
+        }
+    }
+
+    private synchronized ExecutorService submitExecutor() {
+        if (submitExecutor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            submitExecutor = Executors.newFixedThreadPool(faucetPoolSize, runnable -> {
+                Thread thread = new Thread(runnable, "yaci-tx-submit-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
         }
+        return submitExecutor;
     }
 
+    /**
+     * Wait for a submitted transaction to be included in a block.
+     * Does nothing if the submission result is not successful.
+     * @param result transaction submission result
+     * @throws IllegalStateException if the transaction is not confirmed within the confirmation timeout
+     */
     public void waitForTransactionHash(Result<String> result) {
+        if (result.isSuccessful())
+            waitForTransaction(result.getValue());
+    }
+
+    /**
+     * Wait for a transaction to be included in a block.
+     * @param txHash transaction hash
+     * @throws IllegalStateException if the transaction is not confirmed within the confirmation timeout
+     */
+    public void waitForTransaction(@NonNull String txHash) {
         try {
-            if (result.isSuccessful()) { //Wait for transaction to be mined
-                int count = 0;
-                while (count < 5) {
-                    Result<TransactionContent> txnResult = yaciCardanoContainer.getTransactionService().getTransaction(result.getValue());
-                    if (txnResult.isSuccessful()) {
-                        System.out.println(JsonUtil.getPrettyJson(txnResult.getValue().getHash()));
-                        break;
-                    } else {
-                        System.out.println("Waiting for transaction to be processed ....");
-                    }
-
-                    count++;
-                    Thread.sleep(2000);
-                }
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
+            yaciCardanoContainer.getTxConfirmationTracker().track(txHash).join();
+            log.debug("Transaction confirmed: " + txHash);
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Transaction not confirmed: " + txHash, e.getCause());
         }
     }
 
@@ -0,0 +1,58 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Timings of one transaction built and submitted by the helper. Phase timings are in nanoseconds.
+ * <ul>
+ *     <li>utxoSelection: time in utxo supplier calls, including the wait for a free faucet utxo or for the
+ *     previous transaction of the same sender to be submitted</li>
+ *     <li>protocolParams: time to get protocol params</li>
+ *     <li>buildAndSign: balancing, fee calculation and signing, excluding the two phases above</li>
+ *     <li>submit: serialization and submission to the backend</li>
+ *     <li>confirmation: from submission until the transaction is seen on chain</li>
+ * </ul>
+ * Slot and block number are of the block which includes the transaction. They are not set if the backend doesn't
+ * return them, e.g. Kupo doesn't return the block number.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TxTrace {
+    private final String operation;
+    private final String txHash;
+    /**
+     * Start time in epoch millis
+     */
+    private final long startedAt;
+    private final long utxoSelectionNanos;
+    private final long protocolParamsNanos;
+    private final long buildAndSignNanos;
+    private final long submitNanos;
+    private final Long confirmationNanos;
+    private final Integer txSize;
+    private final Long fee;
+    private final Long slot;
+    private final Long blockNumber;
+    /**
+     * Failure reason if the transaction could not be built, submitted or confirmed
+     */
+    private final String error;
+
+    /**
+     * Returns total time from start until confirmation, or until submission if not confirmed
+     * @return total nanoseconds
+     */
+    public long getTotalNanos() {
+        return utxoSelectionNanos + protocolParamsNanos + buildAndSignNanos + submitNanos
+                + (confirmationNanos != null ? confirmationNanos : 0);
+    }
+
+    public boolean isConfirmed() {
+        return confirmationNanos != null && error == null;
+    }
+}
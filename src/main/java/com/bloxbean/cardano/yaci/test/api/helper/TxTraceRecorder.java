@@ -0,0 +1,140 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.api.ProtocolParamsSupplier;
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.yaci.test.backend.TxConfirmation;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Collects phase timings of one helper transaction and creates its {@link TxTrace}
+ */
+class TxTraceRecorder {
+    private final String operation;
+    private final long startedAt = System.currentTimeMillis();
+    private final long start = System.nanoTime();
+    private final AtomicLong utxoNanos = new AtomicLong();
+    private final AtomicLong protocolParamsNanos = new AtomicLong();
+    private final AtomicLong buildNanos = new AtomicLong();
+    private final AtomicLong submitNanos = new AtomicLong();
+    private volatile long submitted;
+    private volatile Transaction transaction;
+    private volatile String txHash;
+
+    TxTraceRecorder(String operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Build a transaction. May be called more than once, e.g. when more faucet utxos are reserved.
+     */
+    Transaction build(Supplier<Transaction> builder) {
+        long buildStart = System.nanoTime();
+        try {
+            return builder.get();
+        } finally {
+            buildNanos.addAndGet(System.nanoTime() - buildStart);
+        }
+    }
+
+    Result<String> submit(Transaction transaction, Function<Transaction, Result<String>> submitter) {
+        long submitStart = System.nanoTime();
+        try {
+            Result<String> result = submitter.apply(transaction);
+            if (result.isSuccessful())
+                txHash = result.getValue();
+            return result;
+        } finally {
+            submitted = System.nanoTime();
+            submitNanos.addAndGet(submitted - submitStart);
+            this.transaction = transaction;
+        }
+    }
+
+    UtxoSupplier utxoSupplier(UtxoSupplier utxoSupplier) {
+        return new TimedUtxoSupplier(utxoSupplier);
+    }
+
+    ProtocolParamsSupplier protocolParamsSupplier(ProtocolParamsSupplier protocolParamsSupplier) {
+        return () -> timed(protocolParamsNanos, protocolParamsSupplier::getProtocolParams);
+    }
+
+    TxTrace confirmed(TxConfirmation confirmation) {
+        return trace(System.nanoTime() - submitted, confirmation.getSlot(), confirmation.getBlockNumber(), null);
+    }
+
+    TxTrace failed(String error) {
+        return trace(null, null, null, error);
+    }
+
+    private TxTrace trace(Long confirmationNanos, Long slot, Long blockNumber, String error) {
+        long end = submitted > 0 ? submitted : System.nanoTime();
+        long utxo = utxoNanos.get();
+        long params = protocolParamsNanos.get();
+        long build = buildNanos.get();
+        long submit = submitNanos.get();
+        //Time outside build and submit is spent waiting for faucet utxos
+        long utxoSelection = utxo + Math.max(0, (end - start) - build - submit);
+
+        Transaction tx = transaction;
+        BigInteger fee = tx != null && tx.getBody() != null ? tx.getBody().getFee() : null;
+
+        return new TxTrace(operation, txHash, startedAt, utxoSelection, params, Math.max(0, build - utxo - params),
+                submit, confirmationNanos, txSize(tx), fee != null ? fee.longValue() : null, slot, blockNumber, error);
+    }
+
+    /**
+     * Serialized size, computed when the trace is created to keep it out of the submit timing
+     */
+    private static Integer txSize(Transaction transaction) {
+        if (transaction == null)
+            return null;
+
+        try {
+            return transaction.serialize().length;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private <T> T timed(AtomicLong counter, Supplier<T> call) {
+        long callStart = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            counter.addAndGet(System.nanoTime() - callStart);
+        }
+    }
+
+    private class TimedUtxoSupplier implements UtxoSupplier {
+        private final UtxoSupplier delegate;
+
+        TimedUtxoSupplier(UtxoSupplier delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public List<Utxo> getPage(String address, Integer nrOfItems, Integer page, OrderEnum order) {
+            return timed(utxoNanos, () -> delegate.getPage(address, nrOfItems, page, order));
+        }
+
+        @Override
+        public Optional<Utxo> getTxOutput(String txHash, int outputIndex) {
+            return timed(utxoNanos, () -> delegate.getTxOutput(txHash, outputIndex));
+        }
+
+        @Override
+        public List<Utxo> getAll(String address) {
+            return timed(utxoNanos, () -> delegate.getAll(address));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps {@link TxTrace}s of the transactions built and submitted by the helper. Only the latest traces are kept,
+ * see {@link #setMaxTraces(int)}.
+ */
+public class TxTracer {
+    public static final int DEFAULT_MAX_TRACES = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Deque<TxTrace> traces = new ArrayDeque<>();
+    private volatile boolean enabled = true;
+    private int maxTraces = DEFAULT_MAX_TRACES;
+
+    /**
+     * Enable or disable tracing. Enabled by default.
+     * @param enabled true to record traces
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Set max no of traces kept. Oldest traces are dropped first.
+     * @param maxTraces max no of traces
+     */
+    public synchronized void setMaxTraces(int maxTraces) {
+        if (maxTraces < 1)
+            throw new IllegalArgumentException("Max traces should be at least 1");
+        this.maxTraces = maxTraces;
+        trim();
+    }
+
+    /**
+     * Returns recorded traces, oldest first. A trace is recorded when its transaction is confirmed or has failed.
+     * @return traces
+     */
+    public synchronized List<TxTrace> getTraces() {
+        return new ArrayList<>(traces);
+    }
+
+    /**
+     * Returns trace of a transaction
+     * @param txHash transaction hash
+     * @return trace or empty if not found
+     */
+    public synchronized Optional<TxTrace> getTrace(String txHash) {
+        return traces.stream()
+                .filter(trace -> txHash.equals(trace.getTxHash()))
+                .findFirst();
+    }
+
+    public synchronized void clear() {
+        traces.clear();
+    }
+
+    /**
+     * Write traces as JSON lines, one trace per line
+     * @param writer writer
+     * @throws IOException if the traces can't be written
+     */
+    public void writeJsonLines(@NonNull Writer writer) throws IOException {
+        for (TxTrace trace : getTraces()) {
+            writer.write(objectMapper.writeValueAsString(trace));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * Write traces as JSON lines to a file. Existing file is replaced.
+     * @param path file path
+     * @throws IOException if the file can't be written
+     */
+    public void writeJsonLines(@NonNull Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writeJsonLines(writer);
+        }
+    }
+
+    synchronized void add(TxTrace trace) {
+        traces.addLast(trace);
+        trim();
+    }
+
+    private void trim() {
+        while (traces.size() > maxTraces) {
+            traces.removeFirst();
+        }
+    }
+}
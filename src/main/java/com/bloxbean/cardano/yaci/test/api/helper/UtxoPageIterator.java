@@ -0,0 +1,123 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import lombok.NonNull;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates utxos of an address page by page. Only the current page and the next page are held in memory. The next
+ * page is fetched in the background while the current page is consumed.
+ * <p>
+ * Close the iterator (or the stream returned by {@link #stream()}) if it is not fully consumed, so that a pending
+ * prefetch is cancelled.
+ */
+public class UtxoPageIterator implements Iterator<Utxo>, AutoCloseable {
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    private static final ExecutorService prefetchExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "yaci-utxo-prefetch-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private final UtxoSupplier utxoSupplier;
+    private final String address;
+    private final int pageSize;
+    private final OrderEnum order;
+
+    private CompletableFuture<List<Utxo>> nextPage;
+    private Iterator<Utxo> current = Collections.emptyIterator();
+    private int page;
+    private boolean lastPage;
+
+    public UtxoPageIterator(@NonNull UtxoSupplier utxoSupplier, @NonNull String address) {
+        this(utxoSupplier, address, DEFAULT_PAGE_SIZE, OrderEnum.asc);
+    }
+
+    public UtxoPageIterator(@NonNull UtxoSupplier utxoSupplier, @NonNull String address, int pageSize,
+                            @NonNull OrderEnum order) {
+        if (pageSize <= 0)
+            throw new IllegalArgumentException("Page size should be greater than 0");
+
+        this.utxoSupplier = utxoSupplier;
+        this.address = address;
+        this.pageSize = pageSize;
+        this.order = order;
+        this.nextPage = fetch(0);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (lastPage)
+                return false;
+
+            List<Utxo> utxos = awaitNextPage();
+            page++;
+            //A short page is the last one. No need for another round-trip
+            if (utxos == null || utxos.size() < pageSize) {
+                lastPage = true;
+                nextPage = null;
+            } else {
+                nextPage = fetch(page);
+            }
+
+            if (utxos != null)
+                current = utxos.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public Utxo next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        return current.next();
+    }
+
+    /**
+     * Returns a sequential stream over the remaining utxos. Closing the stream closes this iterator.
+     * @return stream of utxos
+     */
+    public Stream<Utxo> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        lastPage = true;
+        current = Collections.emptyIterator();
+        if (nextPage != null) {
+            nextPage.cancel(true);
+            nextPage = null;
+        }
+    }
+
+    private CompletableFuture<List<Utxo>> fetch(int pageNo) {
+        return CompletableFuture.supplyAsync(() -> utxoSupplier.getPage(address, pageSize, pageNo, order), prefetchExecutor);
+    }
+
+    private List<Utxo> awaitNextPage() {
+        try {
+            return nextPage.join();
+        } catch (CompletionException e) {
+            close();
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+}
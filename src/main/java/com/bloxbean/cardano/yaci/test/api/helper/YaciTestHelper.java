@@ -1,17 +1,18 @@
 package com.bloxbean.cardano.yaci.test.api.helper;
 
 import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
 import com.bloxbean.cardano.client.api.model.Amount;
 import com.bloxbean.cardano.client.api.model.Utxo;
-import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import com.bloxbean.cardano.client.plutus.spec.PlutusData;
-import com.bloxbean.cardano.client.util.HexUtil;
 import com.bloxbean.cardano.yaci.test.YaciCardanoContainer;
 import lombok.NonNull;
 
 import java.math.BigInteger;
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
 
@@ -19,6 +20,16 @@ import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
  * Provides test utility methods
  */
 public class YaciTestHelper extends TransactionHelper {
+    /**
+     * Max no of utxo pages of an address which the address helpers (balances, datums, ...) read through the utxo
+     * cache. Later pages are read without caching, so a very large address isn't kept in memory.
+     */
+    static final int MAX_CACHED_PAGES = 10;
+
+    //Static helpers return new PlutusData instances, so they are not cached
+    private static final InlineDatumDecoder uncachedDatumDecoder = new InlineDatumDecoder(0);
+    private final InlineDatumDecoder inlineDatumDecoder = new InlineDatumDecoder(InlineDatumDecoder.DEFAULT_CACHE_SIZE);
+
     private YaciCardanoContainer container;
 
     public YaciTestHelper(YaciCardanoContainer yaciCardanoContainer) {
@@ -26,6 +37,14 @@ public class YaciTestHelper extends TransactionHelper {
         this.container = yaciCardanoContainer;
     }
 
+    /**
+     * Returns all utxos of an address. The whole list is materialized for the caller anyway, so it is served from
+     * the utxo cache and repeated checks in a test don't fetch it again. Use {@link #utxoStream(String)} for
+     * large addresses.
+     *
+     * @param address address
+     * @return utxos
+     */
     public List<Utxo> utxos(String address) {
         UtxoSupplier utxoSupplier = container.getUtxoSupplier();
         List<Utxo> utxoList = utxoSupplier.getAll(address);
@@ -35,8 +54,45 @@ public class YaciTestHelper extends TransactionHelper {
             return utxoList;
     }
 
+    /**
+     * Returns utxos of an address as a lazy stream. Utxos are fetched page by page and the next page is prefetched
+     * in the background, so large addresses can be processed in bounded memory. Pages bypass the utxo cache.
+     * The stream should be closed if it is not fully consumed.
+     *
+     * @param address address
+     * @return stream of utxos
+     */
+    public Stream<Utxo> utxoStream(String address) {
+        return utxoStream(address, UtxoPageIterator.DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Returns utxos of an address as a lazy stream
+     *
+     * @param address address
+     * @param pageSize no of utxos to fetch in one request
+     * @return stream of utxos
+     * @see #utxoStream(String)
+     */
+    public Stream<Utxo> utxoStream(String address, int pageSize) {
+        return new UtxoPageIterator(container.getUncachedUtxoSupplier(), address, pageSize, OrderEnum.asc).stream();
+    }
+
+    /**
+     * Returns balance per unit of an address. Utxos are read page by page through the utxo cache and aggregated in
+     * a single pass, so repeated checks within one block don't fetch the utxos again.
+     *
+     * @param address address
+     * @return balances
+     */
+    public Balances balances(String address) {
+        try (Stream<Utxo> utxos = cachedUtxoStream(address)) {
+            return utxos.collect(BalanceAccumulator.collector());
+        }
+    }
+
     public List<Amount> amounts(String address) {
-        return amounts(utxos(address));
+        return balances(address).toAmounts();
     }
 
     public Optional<BigInteger> lovelaceBalance(String address) {
@@ -44,32 +100,42 @@ public class YaciTestHelper extends TransactionHelper {
     }
 
     public Optional<BigInteger> assetBalance(String address, String unit) {
-        List<Amount> amounts = amounts(address);
-        return assetBalance(unit, amounts);
+        return balances(address).find(unit);
     }
 
+    /**
+     * Returns inline datums of an address. Decoded datums are cached by this helper, so the same datum returned by
+     * an earlier call may be the same PlutusData instance. Returned instances should not be modified.
+     *
+     * @param address address
+     * @return list of PlutusData
+     */
     public List<PlutusData> inlineDatums(String address) {
-        return inlineDatums(utxos(address));
+        return inlineDatums(address, datum -> true);
+    }
+
+    /**
+     * Returns inline datums of an address whose raw cbor hex matches the filter. Other datums are not decoded.
+     * Decoded datums are cached by this helper and should not be modified.
+     *
+     * @param address address
+     * @param rawCborFilter predicate on inline datum cbor hex
+     * @return list of PlutusData
+     */
+    public List<PlutusData> inlineDatums(String address, Predicate<String> rawCborFilter) {
+        return inlineDatumDecoder.decode(streamedUtxos(address, utxo -> utxo.getInlineDatum() != null), rawCborFilter);
     }
 
     public List<String> referenceScriptHashes(String address) {
-        return referenceScriptHashes(utxos(address));
+        return referenceScriptHashes(streamedUtxos(address, utxo -> utxo.getReferenceScriptHash() != null));
     }
 
     public static List<Amount> amounts(@NonNull List<Utxo> utxoList) {
-        Map<String, List<Amount>> amountMap = utxoList.stream()
-                .flatMap(utxo -> utxo.getAmount().stream())
-                .collect(Collectors.groupingBy(Amount::getUnit));
+        return balances(utxoList).toAmounts();
+    }
 
-        return amountMap.entrySet()
-                .stream()
-                .map(entry -> entry.getValue().stream()
-                        .map(amount -> amount.getQuantity())
-                        .collect(Collectors.reducing((b1, b2) -> b1.add(b2)))
-                        .map(quantity -> new Amount(entry.getKey(), quantity)))
-                .map(amountOptional -> amountOptional.orElse(null))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+    public static Balances balances(@NonNull List<Utxo> utxoList) {
+        return Balances.of(utxoList);
     }
 
     public static Optional<BigInteger> assetBalance(String unit, List<Amount> amounts) {
@@ -78,23 +144,64 @@ public class YaciTestHelper extends TransactionHelper {
                 .map(amount -> amount.getQuantity());
     }
 
+    /**
+     * Decodes inline datums of the given utxos. Large lists are decoded in parallel. Every call returns new
+     * PlutusData instances.
+     *
+     * @param utxos utxos
+     * @return list of PlutusData
+     */
     public static List<PlutusData> inlineDatums(@NonNull List<Utxo> utxos) {
-        return utxos
-                .stream()
-                .filter(utxo -> utxo.getInlineDatum() != null)
-                .map(utxo -> utxo.getInlineDatum())
-                .map(datum -> {
-                    try {
-                        return PlutusData.deserialize(HexUtil.decodeHexString(datum));
-                    } catch (CborDeserializationException e) {
-                        throw new RuntimeException(e);
-                    }
-                })
-                .collect(Collectors.toList());
+        return inlineDatums(utxos, datum -> true);
+    }
+
+    /**
+     * Decodes inline datums whose raw cbor hex matches the filter. Other datums are not decoded.
+     *
+     * @param utxos utxos
+     * @param rawCborFilter predicate on inline datum cbor hex
+     * @return list of PlutusData
+     */
+    public static List<PlutusData> inlineDatums(@NonNull List<Utxo> utxos, @NonNull Predicate<String> rawCborFilter) {
+        return uncachedDatumDecoder.decode(utxos, rawCborFilter);
     }
 
     public List<String> datumHashes(String address) {
-        return datumHashes(utxos(address));
+        return datumHashes(streamedUtxos(address, utxo -> utxo.getDataHash() != null));
+    }
+
+    /**
+     * Streams utxos of an address and keeps only the ones matching the filter
+     */
+    private List<Utxo> streamedUtxos(String address, Predicate<Utxo> filter) {
+        try (Stream<Utxo> utxos = cachedUtxoStream(address)) {
+            return utxos.filter(filter).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Streams utxos of an address. The first {@link #MAX_CACHED_PAGES} pages are served from the utxo cache.
+     */
+    private Stream<Utxo> cachedUtxoStream(String address) {
+        UtxoSupplier cached = container.getUtxoSupplier();
+        UtxoSupplier uncached = container.getUncachedUtxoSupplier();
+        UtxoSupplier pageSupplier = new UtxoSupplier() {
+            @Override
+            public List<Utxo> getPage(String address, Integer nrOfItems, Integer page, OrderEnum order) {
+                return (page < MAX_CACHED_PAGES ? cached : uncached).getPage(address, nrOfItems, page, order);
+            }
+
+            @Override
+            public List<Utxo> getAll(String address) {
+                return cached.getAll(address);
+            }
+
+            @Override
+            public Optional<Utxo> getTxOutput(String txHash, int outputIndex) {
+                return cached.getTxOutput(txHash, outputIndex);
+            }
+        };
+        return new UtxoPageIterator(pageSupplier, address, UtxoPageIterator.DEFAULT_PAGE_SIZE, OrderEnum.asc).stream();
     }
 
     public static List<String> datumHashes(@NonNull List<Utxo> utxos) {
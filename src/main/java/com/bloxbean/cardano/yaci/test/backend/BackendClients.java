@@ -0,0 +1,75 @@
+package com.bloxbean.cardano.yaci.test.backend;
+
+import com.bloxbean.cardano.client.api.TransactionProcessor;
+import com.bloxbean.cardano.client.backend.api.*;
+import com.bloxbean.cardano.yaci.test.ApiMode;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * Backend service instances created for a container and an {@link ApiMode}.
+ * <p>
+ * Instances are created once and shared by all callers, so that http clients, connection pools and json mappers
+ * are not re-created for every call. All service implementations used here are thread-safe.
+ */
+@Slf4j
+@Getter
+public class BackendClients implements AutoCloseable {
+    private final ApiMode apiMode;
+    private final UtxoService utxoService;
+    private final TransactionService transactionService;
+    private final EpochService epochService;
+    private final BackendService backendService;
+    private final CachingUtxoSupplier utxoSupplier;
+    private final CachingProtocolParamsSupplier protocolParamsSupplier;
+    private final TransactionProcessor transactionProcessor;
+    private final ChainTipSupplier chainTipSupplier;
+    private final TxConfirmationTracker confirmationTracker;
+
+    @Builder
+    private BackendClients(@NonNull ApiMode apiMode, @NonNull UtxoService utxoService,
+                           @NonNull TransactionService transactionService, @NonNull EpochService epochService,
+                           @NonNull BackendService backendService, @NonNull ChainTipSupplier chainTipSupplier,
+                           @NonNull TxConfirmationTracker confirmationTracker, @NonNull Duration tipCheckInterval) {
+        this.apiMode = apiMode;
+        this.utxoService = utxoService;
+        this.transactionService = transactionService;
+        this.epochService = epochService;
+        this.backendService = backendService;
+        this.utxoSupplier = new CachingUtxoSupplier(new DefaultUtxoSupplier(utxoService), chainTipSupplier, tipCheckInterval);
+        this.protocolParamsSupplier = new CachingProtocolParamsSupplier(new DefaultProtocolParamsSupplier(epochService),
+                chainTipSupplier, epochService, tipCheckInterval);
+        this.transactionProcessor = new DefaultTransactionProcessor(transactionService);
+        this.chainTipSupplier = chainTipSupplier;
+        this.confirmationTracker = confirmationTracker;
+
+        confirmationTracker.addListener(utxoSupplier.asConfirmationListener());
+    }
+
+    /**
+     * Release resources held by the backend services.
+     */
+    @Override
+    public void close() {
+        confirmationTracker.close();
+        closeQuietly(utxoService);
+        closeQuietly(transactionService);
+        closeQuietly(epochService);
+        closeQuietly(backendService);
+    }
+
+    private static void closeQuietly(Object service) {
+        if (!(service instanceof AutoCloseable))
+            return;
+
+        try {
+            ((AutoCloseable) service).close();
+        } catch (Exception e) {
+            log.warn("Error while closing backend service : " + service.getClass().getName(), e);
+        }
+    }
+}
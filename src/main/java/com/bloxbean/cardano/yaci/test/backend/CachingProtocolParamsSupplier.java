@@ -0,0 +1,87 @@
+package com.bloxbean.cardano.yaci.test.backend;
+
+import com.bloxbean.cardano.client.api.ProtocolParamsSupplier;
+import com.bloxbean.cardano.client.api.model.ProtocolParams;
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.backend.api.EpochService;
+import com.bloxbean.cardano.client.backend.model.EpochContent;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * {@link ProtocolParamsSupplier} which fetches protocol parameters once per epoch.
+ * <p>
+ * The current epoch is taken from the chain tip. If the tip doesn't have the epoch (e.g. Kupo), the latest epoch is
+ * fetched from {@link EpochService}, but only when the tip slot changes.
+ */
+@Slf4j
+public class CachingProtocolParamsSupplier implements ProtocolParamsSupplier {
+    private final ProtocolParamsSupplier delegate;
+    private final ChainTipSupplier tipSupplier;
+    private final EpochService epochService;
+    private final long tipCheckIntervalNanos;
+
+    private ProtocolParams protocolParams;
+    private Integer cachedEpoch;
+    private long lastTipCheck;
+    private long lastTipSlot = -1;
+    private Integer currentEpoch;
+
+    public CachingProtocolParamsSupplier(@NonNull ProtocolParamsSupplier delegate, @NonNull ChainTipSupplier tipSupplier,
+                                         @NonNull EpochService epochService, @NonNull Duration tipCheckInterval) {
+        this.delegate = delegate;
+        this.tipSupplier = tipSupplier;
+        this.epochService = epochService;
+        this.tipCheckIntervalNanos = tipCheckInterval.toNanos();
+    }
+
+    @Override
+    public synchronized ProtocolParams getProtocolParams() {
+        Integer epoch = currentEpoch();
+        if (protocolParams != null && epoch != null && epoch.equals(cachedEpoch))
+            return protocolParams;
+
+        ProtocolParams params = delegate.getProtocolParams();
+        if (epoch != null) {
+            log.debug("Protocol parameters fetched for epoch {}", epoch);
+            protocolParams = params;
+            cachedEpoch = epoch;
+        }
+        return params;
+    }
+
+    /**
+     * Remove cached protocol parameters. Next call fetches them from the backend again.
+     */
+    public synchronized void invalidate() {
+        protocolParams = null;
+        cachedEpoch = null;
+    }
+
+    private Integer currentEpoch() {
+        long now = System.nanoTime();
+        if (lastTipSlot != -1 && now - lastTipCheck < tipCheckIntervalNanos)
+            return currentEpoch;
+
+        lastTipCheck = now;
+        try {
+            ChainTip tip = tipSupplier.getTip();
+            if (tip.getEpoch() != null) {
+                currentEpoch = tip.getEpoch();
+            } else if (tip.getSlot() != lastTipSlot) {
+                Result<EpochContent> result = epochService.getLatestEpoch();
+                currentEpoch = result.isSuccessful() && result.getValue() != null ? result.getValue().getEpoch() : null;
+            }
+            lastTipSlot = tip.getSlot();
+        } catch (Exception e) {
+            //Epoch unknown. Don't serve from cache
+            log.debug("Error while finding current epoch", e);
+            currentEpoch = null;
+            lastTipSlot = -1;
+        }
+
+        return currentEpoch;
+    }
+}
@@ -0,0 +1,268 @@
+package com.bloxbean.cardano.yaci.test.backend;
+
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionInput;
+import com.bloxbean.cardano.client.transaction.spec.TransactionOutput;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * {@link UtxoSupplier} which caches utxos per address until the chain tip changes.
+ * <p>
+ * The tip is checked at most once per tip check interval. Cached utxos are also removed when a transaction is
+ * submitted or confirmed through the container (see {@link #asConfirmationListener()}), so a balance check right
+ * after a helper transaction never sees stale utxos. For transactions registered through
+ * {@link #register(String, Transaction)} only the addresses the transaction touches are removed, for other
+ * transactions the whole cache is cleared.
+ * <p>
+ * Invalidations and cache writes are done under this supplier's monitor. Backend calls, including the tip check,
+ * are made outside of it.
+ */
+@Slf4j
+public class CachingUtxoSupplier implements UtxoSupplier {
+    private static final String ALL_KEY = "all";
+
+    private final UtxoSupplier delegate;
+    private final ChainTipSupplier tipSupplier;
+    private final long tipCheckIntervalNanos;
+
+    private final Map<String, Map<String, List<Utxo>>> cache = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    //Incremented on every invalidation, so that a result loaded before it is not cached. Guarded by this.
+    private long generation;
+    //Inputs and output addresses of registered transactions by tx hash
+    private final Map<String, TxFootprint> registeredTxs = new ConcurrentHashMap<>();
+
+    //Tip check in progress. Other callers wait for it instead of fetching the tip too.
+    private final AtomicReference<CompletableFuture<Void>> tipCheck = new AtomicReference<>();
+    private volatile long lastTipCheck;
+    private volatile long lastTipSlot = -1;
+
+    public CachingUtxoSupplier(@NonNull UtxoSupplier delegate, @NonNull ChainTipSupplier tipSupplier,
+                               @NonNull Duration tipCheckInterval) {
+        this.delegate = delegate;
+        this.tipSupplier = tipSupplier;
+        this.tipCheckIntervalNanos = tipCheckInterval.toNanos();
+    }
+
+    @Override
+    public List<Utxo> getPage(String address, Integer nrOfItems, Integer page, OrderEnum order) {
+        String key = nrOfItems + ":" + page + ":" + order;
+        return cached(address, key, () -> delegate.getPage(address, nrOfItems, page, order));
+    }
+
+    @Override
+    public List<Utxo> getAll(String address) {
+        return cached(address, ALL_KEY, () -> delegate.getAll(address));
+    }
+
+    @Override
+    public Optional<Utxo> getTxOutput(String txHash, int outputIndex) {
+        return delegate.getTxOutput(txHash, outputIndex);
+    }
+
+    /**
+     * Remove cached utxos of an address
+     * @param address address
+     */
+    public synchronized void invalidate(@NonNull String address) {
+        generation++;
+        cache.remove(address);
+    }
+
+    /**
+     * Remove cached utxos of the addresses a transaction touches, i.e. the addresses receiving its outputs and
+     * the cached addresses holding one of its inputs
+     * @param transaction transaction
+     */
+    public void invalidate(@NonNull Transaction transaction) {
+        invalidate(TxFootprint.of(transaction));
+    }
+
+    /**
+     * Register a submitted transaction. When it is tracked or confirmed, only the addresses it touches are
+     * invalidated instead of the whole cache.
+     * @param txHash transaction hash
+     * @param transaction transaction
+     */
+    public void register(@NonNull String txHash, @NonNull Transaction transaction) {
+        registeredTxs.put(txHash, TxFootprint.of(transaction));
+    }
+
+    /**
+     * Forget a registered transaction, e.g. after it failed or timed out
+     * @param txHash transaction hash
+     */
+    public void release(@NonNull String txHash) {
+        registeredTxs.remove(txHash);
+    }
+
+    /**
+     * Remove all cached utxos
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        cache.clear();
+    }
+
+    /**
+     * Returns the uncached supplier
+     * @return backend utxo supplier
+     */
+    public UtxoSupplier getDelegate() {
+        return delegate;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns a {@link TxConfirmationListener} which invalidates the addresses touched by a transaction when it is
+     * submitted or confirmed. The whole cache is cleared for transactions which are not registered.
+     * @return listener
+     */
+    public TxConfirmationListener asConfirmationListener() {
+        return new TxConfirmationListener() {
+            @Override
+            public void txTracked(String txHash) {
+                TxFootprint footprint = registeredTxs.get(txHash);
+                if (footprint != null)
+                    invalidate(footprint);
+                else
+                    invalidateAll();
+            }
+
+            @Override
+            public void txConfirmed(TxConfirmation confirmation) {
+                TxFootprint footprint = registeredTxs.remove(confirmation.getTxHash());
+                if (footprint != null)
+                    invalidate(footprint);
+                else
+                    invalidateAll();
+            }
+        };
+    }
+
+    private synchronized void invalidate(TxFootprint footprint) {
+        generation++;
+        footprint.addresses.forEach(cache::remove);
+
+        if (footprint.inputs.isEmpty())
+            return;
+        //Inputs don't carry their address, so drop the cached addresses holding one of them
+        cache.entrySet().removeIf(entry -> entry.getValue().values().stream()
+                .flatMap(List::stream)
+                .anyMatch(utxo -> footprint.inputs.contains(utxo.getTxHash() + "#" + utxo.getOutputIndex())));
+    }
+
+    private List<Utxo> cached(String address, String key, Supplier<List<Utxo>> loader) {
+        checkTip();
+
+        Map<String, List<Utxo>> addressCache = cache.get(address);
+        List<Utxo> utxos = addressCache != null ? addressCache.get(key) : null;
+        if (utxos != null) {
+            hitCount.incrementAndGet();
+            return new ArrayList<>(utxos);
+        }
+
+        missCount.incrementAndGet();
+        long loadGeneration;
+        synchronized (this) {
+            loadGeneration = generation;
+        }
+        utxos = loader.get();
+        if (utxos == null)
+            return null;
+
+        //Don't cache a result loaded before the last invalidation. Checked under the lock the invalidations
+        //hold, so an invalidation can't run between the check and the put.
+        synchronized (this) {
+            if (generation == loadGeneration)
+                cache.computeIfAbsent(address, k -> new ConcurrentHashMap<>()).put(key, new ArrayList<>(utxos));
+        }
+        return utxos;
+    }
+
+    /**
+     * Inputs as "txHash#index" and output addresses of a transaction
+     */
+    private static class TxFootprint {
+        private final Set<String> inputs = new HashSet<>();
+        private final Set<String> addresses = new HashSet<>();
+
+        static TxFootprint of(Transaction transaction) {
+            TxFootprint footprint = new TxFootprint();
+            for (TransactionInput input : transaction.getBody().getInputs()) {
+                footprint.inputs.add(input.getTransactionId() + "#" + input.getIndex());
+            }
+            for (TransactionOutput output : transaction.getBody().getOutputs()) {
+                footprint.addresses.add(output.getAddress());
+            }
+            return footprint;
+        }
+    }
+
+    /**
+     * Clear the cache if the tip moved. Only one caller fetches the tip, concurrent callers wait for its result.
+     */
+    private void checkTip() {
+        if (!tipCheckDue())
+            return;
+
+        CompletableFuture<Void> check = new CompletableFuture<>();
+        CompletableFuture<Void> inFlight = tipCheck.compareAndExchange(null, check);
+        if (inFlight != null) {
+            inFlight.join();
+            return;
+        }
+
+        try {
+            //Another check may have finished since the first test
+            if (tipCheckDue())
+                fetchTip();
+        } finally {
+            tipCheck.set(null);
+            check.complete(null);
+        }
+    }
+
+    private boolean tipCheckDue() {
+        return lastTipSlot == -1 || System.nanoTime() - lastTipCheck >= tipCheckIntervalNanos;
+    }
+
+    private void fetchTip() {
+        lastTipCheck = System.nanoTime();
+        long slot;
+        try {
+            slot = tipSupplier.getTip().getSlot();
+        } catch (Exception e) {
+            //Can't tell if the chain moved. Don't serve from cache
+            log.debug("Error while fetching tip. Clearing utxo cache", e);
+            invalidateAll();
+            lastTipSlot = -1;
+            return;
+        }
+
+        if (slot != lastTipSlot) {
+            invalidateAll();
+            lastTipSlot = slot;
+        }
+    }
+}
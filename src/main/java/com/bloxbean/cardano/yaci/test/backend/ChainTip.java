@@ -0,0 +1,20 @@
+package com.bloxbean.cardano.yaci.test.backend;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Latest point of the chain as seen by the backend
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ChainTip {
+    private long slot;
+    private long blockNumber;
+    private String blockHash;
+    private Integer epoch;
+}
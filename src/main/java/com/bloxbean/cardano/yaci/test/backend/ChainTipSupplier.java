@@ -0,0 +1,15 @@
+package com.bloxbean.cardano.yaci.test.backend;
+
+/**
+ * Supplies the latest {@link ChainTip} known to a backend
+ */
+@FunctionalInterface
+public interface ChainTipSupplier {
+
+    /**
+     * Returns the current tip
+     * @return current tip
+     * @throws IllegalStateException if the tip can't be fetched
+     */
+    ChainTip getTip();
+}
@@ -0,0 +1,54 @@
+package com.bloxbean.cardano.yaci.test.backend;
+
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.backend.api.TransactionService;
+import com.bloxbean.cardano.client.backend.model.TransactionContent;
+import lombok.NonNull;
+
+import java.util.*;
+
+/**
+ * Checks each pending transaction through {@link TransactionService#getTransaction(String)}. A poll costs one request
+ * per pending transaction, so backends which can list the transactions of new blocks should use a lookup based on
+ * that instead.
+ */
+class TransactionServiceStatusLookup implements TxStatusLookup {
+    private final TransactionService transactionService;
+
+    TransactionServiceStatusLookup(@NonNull TransactionService transactionService) {
+        this.transactionService = transactionService;
+    }
+
+    @Override
+    public Set<String> findConfirmed(Collection<String> txHashes) {
+        return new HashSet<>(findConfirmations(txHashes, -1).keySet());
+    }
+
+    @Override
+    public Map<String, TxConfirmation> findConfirmations(Collection<String> txHashes, long trackedAfterSlot) {
+        Map<String, TxConfirmation> confirmations = new HashMap<>();
+        for (String txHash : txHashes) {
+            lookup(txHash).ifPresent(confirmation -> confirmations.put(txHash, confirmation));
+        }
+        return confirmations;
+    }
+
+    private Optional<TxConfirmation> lookup(String txHash) {
+        try {
+            Result<TransactionContent> result = transactionService.getTransaction(txHash);
+            if (!result.isSuccessful() || result.getValue() == null)
+                return Optional.empty();
+
+            TransactionContent content = result.getValue();
+            return Optional.of(TxConfirmation.builder()
+                    .txHash(txHash)
+                    .slot(content.getSlot())
+                    .blockNumber(content.getBlockHeight())
+                    .blockHash(content.getBlock())
+                    .build());
+        } catch (Exception e) {
+            //Not found yet. Some backends throw instead of returning an error result
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.bloxbean.cardano.yaci.test.backend;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Confirmation of a transaction. Slot, block number and block hash are of the block which includes the transaction,
+ * and are null if the backend doesn't return them. The tip is the chain tip of the poll which found the transaction,
+ * so it can be a later block.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TxConfirmation {
+    private String txHash;
+    private Long slot;
+    private Long blockNumber;
+    private String blockHash;
+    private ChainTip seenAtTip;
+}
@@ -0,0 +1,22 @@
+package com.bloxbean.cardano.yaci.test.backend;
+
+/**
+ * Listener for {@link TxConfirmationTracker} events. Callbacks are invoked on the thread which tracks or confirms
+ * the transaction and should return quickly.
+ */
+public interface TxConfirmationListener {
+
+    /**
+     * Called when a transaction is tracked for the first time, usually right after submission
+     * @param txHash transaction hash
+     */
+    default void txTracked(String txHash) {
+    }
+
+    /**
+     * Called when a tracked transaction is found on chain
+     * @param confirmation confirmation
+     */
+    default void txConfirmed(TxConfirmation confirmation) {
+    }
+}
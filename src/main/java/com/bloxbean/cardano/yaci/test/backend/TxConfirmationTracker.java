@@ -0,0 +1,188 @@
+package com.bloxbean.cardano.yaci.test.backend;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * Tracks submitted transactions and completes a future for each transaction as soon as it is found on chain.
+ * <p>
+ * The tracker watches the chain tip with a short poll interval and only looks up pending transactions when a new
+ * block is seen (or new transactions are registered), so a transaction is usually confirmed within one block time.
+ * The background thread is started on first use and only talks to the backend while there are pending transactions.
+ */
+@Slf4j
+public class TxConfirmationTracker implements AutoCloseable {
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(200);
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(60);
+
+    private final ChainTipSupplier tipSupplier;
+    private final TxStatusLookup statusLookup;
+    private final Duration pollInterval;
+    private final Duration defaultTimeout;
+
+    private final Map<String, CompletableFuture<TxConfirmation>> pendingTxs = new ConcurrentHashMap<>();
+    //Tip slot seen before each pending tx was tracked
+    private final Map<String, Long> trackedSlots = new ConcurrentHashMap<>();
+    private final List<TxConfirmationListener> listeners = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService scheduler;
+    private volatile boolean newTxs;
+    private volatile long lastSlot = -1;
+
+    public TxConfirmationTracker(@NonNull ChainTipSupplier tipSupplier, @NonNull TxStatusLookup statusLookup) {
+        this(tipSupplier, statusLookup, DEFAULT_POLL_INTERVAL, DEFAULT_TIMEOUT);
+    }
+
+    public TxConfirmationTracker(@NonNull ChainTipSupplier tipSupplier, @NonNull TxStatusLookup statusLookup,
+                                 @NonNull Duration pollInterval, @NonNull Duration defaultTimeout) {
+        this.tipSupplier = tipSupplier;
+        this.statusLookup = statusLookup;
+        this.pollInterval = pollInterval;
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    /**
+     * Track a transaction with default timeout
+     * @param txHash transaction hash
+     * @return future which completes when the transaction is on chain, or fails with {@link TimeoutException}
+     */
+    public CompletableFuture<TxConfirmation> track(@NonNull String txHash) {
+        return track(txHash, defaultTimeout);
+    }
+
+    /**
+     * Track a transaction
+     * @param txHash transaction hash
+     * @param timeout max time to wait for the transaction. If the transaction is already tracked, the timeout of
+     *                the first registration applies
+     * @return future which completes when the transaction is on chain, or fails with {@link TimeoutException}
+     */
+    public CompletableFuture<TxConfirmation> track(@NonNull String txHash, @NonNull Duration timeout) {
+        ensureStarted();
+
+        boolean[] added = new boolean[1];
+        CompletableFuture<TxConfirmation> future = pendingTxs.computeIfAbsent(txHash, hash -> {
+            CompletableFuture<TxConfirmation> txFuture = new CompletableFuture<TxConfirmation>()
+                    .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            txFuture.whenComplete((confirmation, throwable) -> {
+                if (pendingTxs.remove(hash, txFuture))
+                    trackedSlots.remove(hash);
+            });
+            trackedSlots.put(hash, lastSlot);
+            added[0] = true;
+            return txFuture;
+        });
+        newTxs = true;
+
+        if (added[0])
+            notifyListeners(listener -> listener.txTracked(txHash));
+
+        //Callers get a copy, so that one caller can't complete or cancel the shared future
+        return future.copy();
+    }
+
+    /**
+     * Add a listener for tracked and confirmed transactions
+     * @param listener listener
+     */
+    public void addListener(@NonNull TxConfirmationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns no of transactions waiting for confirmation
+     * @return no of pending transactions
+     */
+    public int getPendingCount() {
+        return pendingTxs.size();
+    }
+
+    private synchronized void ensureStarted() {
+        if (scheduler != null)
+            return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "yaci-tx-confirmation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void poll() {
+        if (pendingTxs.isEmpty())
+            return;
+
+        try {
+            ChainTip tip = tipSupplier.getTip();
+            if (tip.getSlot() == lastSlot && !newTxs)
+                return;
+
+            newTxs = false;
+            lastSlot = tip.getSlot();
+
+            List<String> txHashes = new ArrayList<>(pendingTxs.keySet());
+            Map<String, TxConfirmation> confirmed = statusLookup.findConfirmations(txHashes, oldestTrackedSlot(txHashes));
+            log.debug("Tip slot: {}, pending txs: {}, confirmed: {}", tip.getSlot(), txHashes.size(), confirmed.size());
+
+            for (TxConfirmation confirmation : confirmed.values()) {
+                CompletableFuture<TxConfirmation> future = pendingTxs.get(confirmation.getTxHash());
+                if (future == null)
+                    continue;
+
+                confirmation.setSeenAtTip(tip);
+                //Listeners first, so that waiters see up-to-date state (e.g. caches) when they resume
+                notifyListeners(listener -> listener.txConfirmed(confirmation));
+                future.complete(confirmation);
+            }
+        } catch (Exception e) {
+            //Keep polling. Backend may not be ready yet or the tip endpoint may fail temporarily
+            newTxs = true;
+            log.debug("Error while checking pending transactions", e);
+        }
+    }
+
+    /**
+     * Returns the lowest tip slot seen before any of the transactions was tracked, -1 if one of them was tracked
+     * before the first tip check
+     */
+    private long oldestTrackedSlot(List<String> txHashes) {
+        long oldest = Long.MAX_VALUE;
+        for (String txHash : txHashes) {
+            long slot = trackedSlots.getOrDefault(txHash, -1L);
+            if (slot < 0)
+                return -1;
+            oldest = Math.min(oldest, slot);
+        }
+        return oldest == Long.MAX_VALUE ? -1 : oldest;
+    }
+
+    private void notifyListeners(Consumer<TxConfirmationListener> event) {
+        for (TxConfirmationListener listener : listeners) {
+            try {
+                event.accept(listener);
+            } catch (Exception e) {
+                log.warn("Error in TxConfirmationListener", e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+
+        pendingTxs.values().forEach(future -> future.completeExceptionally(
+                new CancellationException("Confirmation tracker closed")));
+        pendingTxs.clear();
+        trackedSlots.clear();
+    }
+}
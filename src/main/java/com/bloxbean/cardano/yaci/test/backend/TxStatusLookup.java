@@ -0,0 +1,58 @@
+package com.bloxbean.cardano.yaci.test.backend;
+
+import com.bloxbean.cardano.client.backend.api.TransactionService;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds out which of the given transactions are already included in a block
+ */
+@FunctionalInterface
+public interface TxStatusLookup {
+
+    /**
+     * Returns the subset of given transaction hashes which are found on chain
+     * @param txHashes transaction hashes to check
+     * @return confirmed transaction hashes
+     */
+    Set<String> findConfirmed(Collection<String> txHashes);
+
+    /**
+     * Returns the subset of given transaction hashes which are found on chain. Lookups which scan new blocks can
+     * start the scan at the given slot.
+     * @param txHashes transaction hashes to check
+     * @param trackedAfterSlot all transactions were tracked after the tip reached this slot, -1 if not known
+     * @return confirmed transaction hashes
+     */
+    default Set<String> findConfirmed(Collection<String> txHashes, long trackedAfterSlot) {
+        return findConfirmed(txHashes);
+    }
+
+    /**
+     * Returns confirmations of the given transactions which are found on chain, by transaction hash. Block fields
+     * of a confirmation are set if the lookup knows the block of the transaction.
+     * @param txHashes transaction hashes to check
+     * @param trackedAfterSlot all transactions were tracked after the tip reached this slot, -1 if not known
+     * @return confirmations by transaction hash
+     */
+    default Map<String, TxConfirmation> findConfirmations(Collection<String> txHashes, long trackedAfterSlot) {
+        Map<String, TxConfirmation> confirmations = new HashMap<>();
+        for (String txHash : findConfirmed(txHashes, trackedAfterSlot)) {
+            confirmations.put(txHash, TxConfirmation.builder().txHash(txHash).build());
+        }
+        return confirmations;
+    }
+
+    /**
+     * Lookup which checks each transaction through {@link TransactionService#getTransaction(String)}, one request per
+     * transaction.
+     * @param transactionService transaction service
+     * @return TxStatusLookup
+     */
+    static TxStatusLookup of(TransactionService transactionService) {
+        return new TransactionServiceStatusLookup(transactionService);
+    }
+}
@@ -0,0 +1,44 @@
+package com.bloxbean.cardano.yaci.test.backend.cluster;
+
+import com.bloxbean.cardano.yaci.test.backend.cluster.http.LocalClusterApi;
+import feign.Feign;
+import feign.Request;
+import feign.jackson.JacksonEncoder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client for yaci-cli local cluster admin api
+ */
+@Slf4j
+public class LocalClusterClient {
+    private final LocalClusterApi localClusterApi;
+
+    public LocalClusterClient(@NonNull String localClusterApiUrl) {
+        this.localClusterApi = Feign.builder()
+                .encoder(new JacksonEncoder())
+                //Reset restarts the node, so it can take a while
+                .options(new Request.Options(10, TimeUnit.SECONDS, 5, TimeUnit.MINUTES, true))
+                .target(LocalClusterApi.class, localClusterApiUrl);
+    }
+
+    /**
+     * Reset the devnet to genesis. Node and indexers are restarted with empty data.
+     */
+    public void resetDevnet() {
+        String response = localClusterApi.resetDevnet();
+        log.debug("Devnet reset : {}", response);
+    }
+
+    /**
+     * Transfer ada to an address from the devnet's genesis funds
+     * @param address receiver address
+     * @param adaAmount amount in ada
+     */
+    public void topup(@NonNull String address, long adaAmount) {
+        String response = localClusterApi.topup(new TopupRequest(address, adaAmount));
+        log.debug("Topup {} ada to {} : {}", adaAmount, address, response);
+    }
+}
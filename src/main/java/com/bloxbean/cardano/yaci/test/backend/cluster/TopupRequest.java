@@ -0,0 +1,13 @@
+package com.bloxbean.cardano.yaci.test.backend.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TopupRequest {
+    private String address;
+    private long adaAmount;
+}
@@ -0,0 +1,15 @@
+package com.bloxbean.cardano.yaci.test.backend.cluster.http;
+
+import com.bloxbean.cardano.yaci.test.backend.cluster.TopupRequest;
+import feign.Headers;
+import feign.RequestLine;
+
+public interface LocalClusterApi {
+
+    @RequestLine("POST admin/devnet/reset")
+    String resetDevnet();
+
+    @Headers("Content-Type: application/json")
+    @RequestLine("POST addresses/topup")
+    String topup(TopupRequest request);
+}
@@ -0,0 +1,159 @@
+package com.bloxbean.cardano.yaci.test.backend.metrics;
+
+import com.bloxbean.cardano.client.api.model.Result;
+import lombok.NonNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records call count, latency histogram, payload size and errors for every method called on instrumented backend
+ * services. Endpoints are named "ServiceInterface.method", e.g. "UtxoService.getUtxos".
+ * <p>
+ * A call is counted as an error if it throws, or if it returns an unsuccessful {@link Result}.
+ */
+public class BackendMetrics {
+    private final Map<String, EndpointRecorder> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Wrap a service, so that calls through the returned instance are recorded. Services returned by the wrapped
+     * service's methods, e.g. {@code BackendService.getUtxoService()}, are wrapped too.
+     *
+     * @param type service interface
+     * @param target service implementation
+     * @param <T> service type
+     * @return instrumented service
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T instrument(@NonNull Class<T> type, @NonNull T target) {
+        if (!type.isInterface())
+            throw new IllegalArgumentException("Only interfaces can be instrumented : " + type.getName());
+
+        Class<?>[] interfaces = target instanceof AutoCloseable && !AutoCloseable.class.isAssignableFrom(type)
+                ? new Class<?>[]{type, AutoCloseable.class}
+                : new Class<?>[]{type};
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), interfaces, new Handler(type, target));
+    }
+
+    /**
+     * Returns current values of all endpoints
+     * @return snapshot
+     */
+    public MetricsSnapshot snapshot() {
+        List<EndpointStats> stats = new ArrayList<>();
+        endpoints.forEach((endpoint, recorder) -> stats.add(recorder.snapshot(endpoint)));
+        return new MetricsSnapshot(stats);
+    }
+
+    /**
+     * Clear all recorded values
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+
+    void record(String endpoint, long nanos, boolean error, long requestBytes, long responseSize) {
+        endpoints.computeIfAbsent(endpoint, key -> new EndpointRecorder())
+                .record(nanos, error, requestBytes, responseSize);
+    }
+
+    /**
+     * Size of byte array arguments, e.g. a serialized transaction
+     */
+    static long requestBytes(Object[] args) {
+        if (args == null)
+            return 0;
+
+        long bytes = 0;
+        for (Object arg : args) {
+            if (arg instanceof byte[])
+                bytes += ((byte[]) arg).length;
+        }
+        return bytes;
+    }
+
+    /**
+     * No of items in a list result, or length of a byte array / string result. 1 for any other non null value.
+     */
+    static long responseSize(Object value) {
+        if (value == null)
+            return 0;
+        if (value instanceof Collection)
+            return ((Collection<?>) value).size();
+        if (value instanceof byte[])
+            return ((byte[]) value).length;
+        if (value instanceof CharSequence)
+            return ((CharSequence) value).length();
+        return 1;
+    }
+
+    private class Handler implements InvocationHandler {
+        private final Class<?> type;
+        private final Object target;
+        private final Map<Method, Object> instrumentedResults = new ConcurrentHashMap<>();
+
+        Handler(Class<?> type, Object target) {
+            this.type = type;
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class || method.getDeclaringClass() == AutoCloseable.class)
+                return invokeTarget(method, args);
+
+            //Service getters, e.g. BackendService.getUtxoService(). Not a remote call.
+            if (args == null && isServiceInterface(method.getReturnType()))
+                return instrumentedResults.computeIfAbsent(method, m -> {
+                    Object service = invokeUnchecked(m);
+                    return service != null ? instrument(castType(m.getReturnType()), service) : null;
+                });
+
+            String endpoint = type.getSimpleName() + "." + method.getName();
+            long start = System.nanoTime();
+            try {
+                Object result = invokeTarget(method, args);
+                boolean error = result instanceof Result && !((Result<?>) result).isSuccessful();
+                Object value = result instanceof Result ? ((Result<?>) result).getValue() : result;
+                record(endpoint, System.nanoTime() - start, error, requestBytes(args), responseSize(value));
+                return result;
+            } catch (Throwable e) {
+                record(endpoint, System.nanoTime() - start, true, requestBytes(args), 0);
+                throw e;
+            }
+        }
+
+        private Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private Object invokeUnchecked(Method method) {
+            try {
+                return method.invoke(target);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Error while getting service : " + method.getName(), e);
+            }
+        }
+
+        private boolean isServiceInterface(Class<?> returnType) {
+            return returnType.isInterface() && returnType.getPackage() != null
+                    && returnType.getPackage().equals(type.getPackage());
+        }
+
+        @SuppressWarnings("unchecked")
+        private Class<Object> castType(Class<?> type) {
+            return (Class<Object>) type;
+        }
+    }
+}
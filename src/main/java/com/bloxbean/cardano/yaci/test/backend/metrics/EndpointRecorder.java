@@ -0,0 +1,55 @@
+package com.bloxbean.cardano.yaci.test.backend.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free counters of one endpoint
+ */
+class EndpointRecorder {
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseSize = new LongAdder();
+    private final LongAdder[] buckets = new LongAdder[EndpointStats.BUCKET_BOUNDS_MILLIS.length + 1];
+
+    EndpointRecorder() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long nanos, boolean error, long requestBytes, long responseSize) {
+        calls.increment();
+        if (error)
+            errors.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        this.requestBytes.add(requestBytes);
+        this.responseSize.add(responseSize);
+        buckets[bucket(nanos)].increment();
+    }
+
+    private static int bucket(long nanos) {
+        long[] bounds = EndpointStats.BUCKET_BOUNDS_MILLIS;
+        for (int i = 0; i < bounds.length; i++) {
+            if (nanos <= TimeUnit.MILLISECONDS.toNanos(bounds[i]))
+                return i;
+        }
+        return bounds.length;
+    }
+
+    EndpointStats snapshot(String endpoint) {
+        long[] histogram = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            histogram[i] = buckets[i].sum();
+        }
+
+        return new EndpointStats(endpoint, calls.sum(), errors.sum(), Duration.ofNanos(totalNanos.sum()),
+                Duration.ofNanos(maxNanos.get()), requestBytes.sum(), responseSize.sum(), histogram);
+    }
+}
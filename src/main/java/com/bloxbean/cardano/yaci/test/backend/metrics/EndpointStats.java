@@ -0,0 +1,69 @@
+package com.bloxbean.cardano.yaci.test.backend.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Recorded values of one endpoint
+ */
+@Getter
+@AllArgsConstructor
+public class EndpointStats {
+    /**
+     * Upper bounds of the latency histogram buckets in milliseconds. The last bucket has no upper bound.
+     */
+    public static final long[] BUCKET_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000};
+
+    private final String endpoint;
+    private final long calls;
+    private final long errors;
+    private final Duration totalTime;
+    private final Duration maxTime;
+    /**
+     * Total size of byte array arguments, e.g. serialized transactions
+     */
+    private final long requestBytes;
+    /**
+     * Total no of returned items, e.g. utxos
+     */
+    private final long responseSize;
+    /**
+     * Call count per latency bucket. See {@link #BUCKET_BOUNDS_MILLIS}
+     */
+    private final long[] histogram;
+
+    public Duration getMeanTime() {
+        return calls == 0 ? Duration.ZERO : totalTime.dividedBy(calls);
+    }
+
+    public double getErrorRate() {
+        return calls == 0 ? 0 : (double) errors / calls;
+    }
+
+    /**
+     * Estimate a latency percentile from the histogram, as the upper bound of the bucket the percentile falls in
+     * @param percentile percentile between 0 and 100
+     * @return latency. Max time if the percentile falls in the last bucket.
+     */
+    public Duration percentile(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("Percentile should be between 0 and 100");
+        if (calls == 0)
+            return Duration.ZERO;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * calls));
+        long count = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+            count += histogram[i];
+            if (count >= rank)
+                return min(Duration.ofMillis(BUCKET_BOUNDS_MILLIS[i]), maxTime);
+        }
+        return maxTime;
+    }
+
+    private static Duration min(Duration d1, Duration d2) {
+        return d1.compareTo(d2) <= 0 ? d1 : d2;
+    }
+}
@@ -0,0 +1,70 @@
+package com.bloxbean.cardano.yaci.test.backend.metrics;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Point in time copy of {@link BackendMetrics}. Endpoints are sorted by total time, highest first.
+ */
+public class MetricsSnapshot {
+    private final List<EndpointStats> endpoints;
+
+    MetricsSnapshot(@NonNull List<EndpointStats> endpoints) {
+        List<EndpointStats> sorted = new ArrayList<>(endpoints);
+        sorted.sort(Comparator.comparing(EndpointStats::getTotalTime).reversed());
+        this.endpoints = Collections.unmodifiableList(sorted);
+    }
+
+    public List<EndpointStats> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Returns stats of an endpoint
+     * @param endpoint endpoint name, e.g. "UtxoService.getUtxos"
+     * @return stats or empty if the endpoint is not called
+     */
+    public Optional<EndpointStats> getEndpoint(String endpoint) {
+        return endpoints.stream()
+                .filter(stats -> stats.getEndpoint().equals(endpoint))
+                .findFirst();
+    }
+
+    public long getTotalCalls() {
+        return endpoints.stream().mapToLong(EndpointStats::getCalls).sum();
+    }
+
+    public Duration getTotalTime() {
+        return endpoints.stream().map(EndpointStats::getTotalTime).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    /**
+     * Returns a table of all endpoints
+     * @return report
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-45s %8s %7s %10s %9s %9s %9s %12s %12s%n",
+                "endpoint", "calls", "errors", "total ms", "mean ms", "p99 ms", "max ms", "req bytes", "resp items"));
+        for (EndpointStats stats : endpoints) {
+            sb.append(String.format("%-45s %8d %6.1f%% %10d %9.1f %9d %9d %12d %12d%n",
+                    stats.getEndpoint(), stats.getCalls(), stats.getErrorRate() * 100,
+                    stats.getTotalTime().toMillis(), stats.getMeanTime().toNanos() / 1_000_000.0,
+                    stats.percentile(99).toMillis(), stats.getMaxTime().toMillis(),
+                    stats.getRequestBytes(), stats.getResponseSize()));
+        }
+        sb.append(String.format("Total : %d calls, %d ms", getTotalCalls(), getTotalTime().toMillis()));
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return report();
+    }
+}
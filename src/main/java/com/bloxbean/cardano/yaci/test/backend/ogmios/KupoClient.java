@@ -0,0 +1,191 @@
+package com.bloxbean.cardano.yaci.test.backend.ogmios;
+
+import com.bloxbean.cardano.yaci.test.backend.TxConfirmation;
+import com.bloxbean.cardano.yaci.test.backend.TxStatusLookup;
+import com.bloxbean.cardano.yaci.test.backend.ogmios.http.MatchesApi;
+import feign.Feign;
+import feign.jackson.JacksonDecoder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Kupo client for transaction lookups. Queries are scoped to a pattern (output reference or address), so Kupo
+ * doesn't scan all matches. Confirmed transactions are cached.
+ * <p>
+ * Batch lookups read all matches created since the oldest pending transaction was tracked in one request, and
+ * later batches only read matches created since the previous one. Confirming many pending transactions costs one
+ * request per new block. A transaction which is not found that way may have been confirmed before it was tracked,
+ * so it is also looked up once by its own pattern. Those lookups are limited per batch.
+ */
+@Slf4j
+public class KupoClient implements TxStatusLookup {
+    static final int MAX_CACHED_TXS = 100_000;
+    static final int MAX_SCOPED_LOOKUPS_PER_BATCH = 10;
+
+    private final MatchesApi matchesApi;
+    private final Map<String, KupoTxn> confirmedTxs = new ConcurrentHashMap<>();
+    //Insertion order of confirmedTxs, oldest first
+    private final Queue<String> cachedTxIds = new ConcurrentLinkedQueue<>();
+    //Pending txs which were already looked up by their own pattern
+    private final Set<String> checkedTxs = ConcurrentHashMap.newKeySet();
+
+    //Matches created after scanStart up to scannedSlot are in the cache. Guarded by this.
+    private long scanStart = -1;
+    private long scannedSlot = -1;
+
+    public KupoClient(@NonNull String kupoUrl) {
+        this(Feign.builder()
+                .decoder(new JacksonDecoder())
+                .target(MatchesApi.class, kupoUrl));
+    }
+
+    KupoClient(MatchesApi matchesApi) {
+        this.matchesApi = matchesApi;
+    }
+
+    /**
+     * Find a confirmed transaction
+     * @param txId transaction id
+     * @return first output of the transaction, or empty if it's not on chain yet
+     */
+    public Optional<KupoTxn> getTransaction(@NonNull String txId) {
+        KupoTxn cached = confirmedTxs.get(txId);
+        if (cached != null)
+            return Optional.of(cached);
+
+        List<KupoTxn> matches = matchesApi.getMatches("*@" + txId);
+        if (matches == null || matches.isEmpty())
+            return Optional.empty();
+
+        matches.forEach(this::cache);
+        return Optional.of(matches.get(0));
+    }
+
+    /**
+     * Find confirmed transactions among the given ones
+     * @param txIds transaction ids
+     * @return confirmed transactions by id
+     */
+    public Map<String, KupoTxn> getTransactions(@NonNull Collection<String> txIds) {
+        return getTransactions(txIds, -1);
+    }
+
+    /**
+     * Find confirmed transactions among the given pending ones. Ids which were passed to an earlier call but are
+     * not in this one are no longer pending, and are forgotten.
+     * @param txIds transaction ids
+     * @param trackedAfterSlot all transactions were submitted after this slot, -1 if not known
+     * @return confirmed transactions by id
+     */
+    public Map<String, KupoTxn> getTransactions(@NonNull Collection<String> txIds, long trackedAfterSlot) {
+        Set<String> pending = new HashSet<>(txIds);
+        checkedTxs.retainAll(pending);
+
+        Map<String, KupoTxn> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String txId : pending) {
+            KupoTxn cached = confirmedTxs.get(txId);
+            if (cached != null)
+                found.put(txId, cached);
+            else
+                missing.add(txId);
+        }
+
+        if (missing.isEmpty())
+            return found;
+
+        scanMatches(trackedAfterSlot);
+
+        int scopedLookups = 0;
+        for (String txId : missing) {
+            KupoTxn txn = confirmedTxs.get(txId);
+            if (txn == null && scopedLookups < MAX_SCOPED_LOOKUPS_PER_BATCH && checkedTxs.add(txId)) {
+                scopedLookups++;
+                txn = getTransaction(txId).orElse(null);
+            }
+
+            if (txn != null) {
+                checkedTxs.remove(txId);
+                found.put(txId, txn);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Set<String> findConfirmed(Collection<String> txHashes) {
+        return findConfirmed(txHashes, -1);
+    }
+
+    @Override
+    public Set<String> findConfirmed(Collection<String> txHashes, long trackedAfterSlot) {
+        return new HashSet<>(getTransactions(txHashes, trackedAfterSlot).keySet());
+    }
+
+    /**
+     * Kupo returns the slot and header hash of the block, but not the block number
+     */
+    @Override
+    public Map<String, TxConfirmation> findConfirmations(Collection<String> txHashes, long trackedAfterSlot) {
+        Map<String, TxConfirmation> confirmations = new HashMap<>();
+        getTransactions(txHashes, trackedAfterSlot).forEach((txId, txn) -> {
+            KupoPoint createdAt = txn.getCreatedAt();
+            confirmations.put(txId, TxConfirmation.builder()
+                    .txHash(txId)
+                    .slot(createdAt != null ? createdAt.getSlotNo() : null)
+                    .blockHash(createdAt != null ? createdAt.getHeaderHash() : null)
+                    .build());
+        });
+        return confirmations;
+    }
+
+    /**
+     * Returns no of cached confirmed transactions
+     * @return no of cached transactions
+     */
+    public int getCachedTransactions() {
+        return confirmedTxs.size();
+    }
+
+    /**
+     * Cache all matches created after the given slot, or since the previous scan if it already covers that slot.
+     * An unknown slot scans from genesis.
+     */
+    private synchronized void scanMatches(long trackedAfterSlot) {
+        long from = Math.max(trackedAfterSlot, 0);
+        if (scannedSlot >= 0 && from >= scanStart)
+            from = scannedSlot;
+        else
+            scanStart = from;
+
+        List<KupoTxn> matches = matchesApi.getMatchesCreatedAfter("*", from);
+        long maxSlot = Math.max(from, scannedSlot);
+        if (matches != null) {
+            for (KupoTxn match : matches) {
+                cache(match);
+                if (match.getCreatedAt() != null)
+                    maxSlot = Math.max(maxSlot, match.getCreatedAt().getSlotNo());
+            }
+            log.trace("Scanned {} Kupo matches after slot {}", matches.size(), from);
+        }
+        scannedSlot = maxSlot;
+    }
+
+    private void cache(KupoTxn match) {
+        String txId = match.getTransactionId();
+        if (txId == null || confirmedTxs.putIfAbsent(txId, match) != null)
+            return;
+
+        cachedTxIds.add(txId);
+        while (confirmedTxs.size() > MAX_CACHED_TXS) {
+            String eldest = cachedTxIds.poll();
+            if (eldest == null)
+                break;
+            confirmedTxs.remove(eldest);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.bloxbean.cardano.yaci.test.backend.ogmios;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Data;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class KupoHealth {
+    private String connectionStatus;
+    private Long mostRecentCheckpoint;
+    private Long mostRecentNodeTip;
+}
@@ -0,0 +1,34 @@
+package com.bloxbean.cardano.yaci.test.backend.ogmios;
+
+import com.bloxbean.cardano.yaci.test.backend.ChainTip;
+import com.bloxbean.cardano.yaci.test.backend.ChainTipSupplier;
+import com.bloxbean.cardano.yaci.test.backend.ogmios.http.HealthApi;
+import feign.Feign;
+import feign.jackson.JacksonDecoder;
+
+/**
+ * {@link ChainTipSupplier} which reads the most recent checkpoint indexed by Kupo.
+ * Kupo only knows slots, so block number is same as slot and epoch is not available.
+ */
+public class KupoTipSupplier implements ChainTipSupplier {
+    private final HealthApi healthApi;
+
+    public KupoTipSupplier(String kupoUrl) {
+        this.healthApi = Feign.builder()
+                .decoder(new JacksonDecoder())
+                .target(HealthApi.class, kupoUrl);
+    }
+
+    @Override
+    public ChainTip getTip() {
+        KupoHealth health = healthApi.getHealth();
+        if (health == null || health.getMostRecentCheckpoint() == null)
+            throw new IllegalStateException("Kupo has not indexed any block yet");
+
+        long slot = health.getMostRecentCheckpoint();
+        return ChainTip.builder()
+                .slot(slot)
+                .blockNumber(slot)
+                .build();
+    }
+}
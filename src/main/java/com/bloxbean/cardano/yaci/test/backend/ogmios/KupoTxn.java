@@ -11,5 +11,7 @@ import lombok.Data;
 public class KupoTxn {
     private int transactionIndex;
     private String transactionId;
+    private int outputIndex;
     private String address;
+    private KupoPoint createdAt;
 }
@@ -0,0 +1,26 @@
+package com.bloxbean.cardano.yaci.test.backend.ogmios;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+/**
+ * Error returned by Ogmios for a JSON-RPC request, e.g. a rejected transaction
+ */
+@Getter
+public class OgmiosRpcException extends RuntimeException {
+    private final int code;
+    private final JsonNode data;
+
+    public OgmiosRpcException(int code, String message, JsonNode data) {
+        super(message);
+        this.code = code;
+        this.data = data;
+    }
+
+    @Override
+    public String getMessage() {
+        return data != null && !data.isNull()
+                ? super.getMessage() + " : " + data
+                : super.getMessage();
+    }
+}
@@ -0,0 +1,283 @@
+package com.bloxbean.cardano.yaci.test.backend.ogmios;
+
+import com.bloxbean.cardano.client.util.HexUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Ogmios JSON-RPC client over one persistent WebSocket connection. Many requests can be in flight at the same time,
+ * responses are matched to requests by id.
+ * <p>
+ * No of in-flight requests is bounded. A caller blocks until a slot is free, so a fast producer can't queue up
+ * unbounded requests in Ogmios. The connection is opened on first request and re-opened if it is closed.
+ */
+@Slf4j
+public class OgmiosWebSocketClient implements AutoCloseable {
+    public static final int DEFAULT_MAX_IN_FLIGHT = 256;
+    public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Function<WebSocket.Listener, WebSocket> connector;
+    private final Semaphore inFlight;
+    private final Duration requestTimeout;
+    private final Map<Long, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final Object sendLock = new Object();
+
+    //Guarded by sendLock
+    private Connection connection;
+    private volatile boolean closed;
+
+    public OgmiosWebSocketClient(@NonNull String ogmiosWsUrl) {
+        this(ogmiosWsUrl, DEFAULT_MAX_IN_FLIGHT, DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    /**
+     * @param ogmiosWsUrl Ogmios WebSocket url
+     * @param maxInFlight max no of requests waiting for a response
+     * @param requestTimeout time to wait for a response
+     */
+    public OgmiosWebSocketClient(@NonNull String ogmiosWsUrl, int maxInFlight, @NonNull Duration requestTimeout) {
+        this(webSocketConnector(URI.create(ogmiosWsUrl)), maxInFlight, requestTimeout);
+    }
+
+    OgmiosWebSocketClient(@NonNull Function<WebSocket.Listener, WebSocket> connector, int maxInFlight,
+                          @NonNull Duration requestTimeout) {
+        if (maxInFlight < 1)
+            throw new IllegalArgumentException("Max in-flight requests should be at least 1");
+
+        this.connector = connector;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Submit a signed transaction
+     * @param cbor transaction cbor
+     * @return future with the transaction id
+     */
+    public CompletableFuture<String> submitTransaction(byte[] cbor) {
+        return request("submitTransaction", transactionParams(cbor))
+                .thenApply(result -> result.path("transaction").path("id").asText());
+    }
+
+    /**
+     * Evaluate execution units of a transaction's scripts
+     * @param cbor transaction cbor
+     * @return future with the list of validators and their budgets
+     */
+    public CompletableFuture<JsonNode> evaluateTransaction(byte[] cbor) {
+        return request("evaluateTransaction", transactionParams(cbor));
+    }
+
+    /**
+     * Run a ledger state query
+     * @param query query name without prefix, e.g. protocolParameters, epoch, tip
+     * @return future with the query result
+     */
+    public CompletableFuture<JsonNode> queryLedgerState(@NonNull String query) {
+        return request("queryLedgerState/" + query, null);
+    }
+
+    /**
+     * Send a JSON-RPC request. Blocks while the max no of requests are in flight.
+     * @param method method name
+     * @param params params or null
+     * @return future with the result. Completes exceptionally with {@link OgmiosRpcException} if Ogmios returns
+     * an error.
+     */
+    public CompletableFuture<JsonNode> request(@NonNull String method, JsonNode params) {
+        if (closed)
+            throw new IllegalStateException("Ogmios client is closed");
+
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long id = nextId.incrementAndGet();
+        PendingRequest pendingRequest = new PendingRequest();
+        CompletableFuture<JsonNode> future = pendingRequest.future;
+        pendingRequests.put(id, pendingRequest);
+        future.whenComplete((result, error) -> {
+            pendingRequests.remove(id);
+            inFlight.release();
+        });
+
+        ObjectNode message = objectMapper.createObjectNode()
+                .put("jsonrpc", "2.0")
+                .put("method", method);
+        if (params != null)
+            message.set("params", params);
+        message.put("id", id);
+
+        try {
+            send(pendingRequest, message.toString());
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        return future.orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns no of requests waiting for a response
+     * @return no of in-flight requests
+     */
+    public int getInFlightRequests() {
+        return pendingRequests.size();
+    }
+
+    @Override
+    public void close() {
+        synchronized (sendLock) {
+            closed = true;
+            if (connection != null) {
+                connection.webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "").exceptionally(e -> null);
+                connection = null;
+            }
+        }
+        IllegalStateException cause = new IllegalStateException("Ogmios client is closed");
+        pendingRequests.values().forEach(request -> request.future.completeExceptionally(cause));
+    }
+
+    private ObjectNode transactionParams(byte[] cbor) {
+        ObjectNode params = objectMapper.createObjectNode();
+        params.putObject("transaction").put("cbor", HexUtil.encodeHexString(cbor));
+        return params;
+    }
+
+    /**
+     * WebSocket doesn't allow a send before the previous one completes
+     */
+    private void send(PendingRequest request, String text) {
+        synchronized (sendLock) {
+            //close() may have run after the caller's check
+            if (closed)
+                throw new IllegalStateException("Ogmios client is closed");
+
+            Connection conn = connection();
+            request.connection = conn;
+            conn.webSocket.sendText(text, true).join();
+        }
+    }
+
+    private Connection connection() {
+        Connection conn = connection;
+        if (conn != null && !conn.webSocket.isOutputClosed() && !conn.webSocket.isInputClosed())
+            return conn;
+
+        log.debug("Connecting to Ogmios");
+        conn = new Connection();
+        conn.webSocket = connector.apply(conn);
+        connection = conn;
+        return conn;
+    }
+
+    private void onResponse(String text) {
+        JsonNode response;
+        try {
+            response = objectMapper.readTree(text);
+        } catch (IOException e) {
+            log.warn("Invalid response from Ogmios : {}", text, e);
+            return;
+        }
+
+        JsonNode idNode = response.get("id");
+        if (idNode == null || !idNode.canConvertToLong()) {
+            log.debug("Ogmios response without id : {}", text);
+            return;
+        }
+
+        PendingRequest request = pendingRequests.get(idNode.asLong());
+        if (request == null) {
+            log.debug("No pending request for Ogmios response : {}", text);
+            return;
+        }
+
+        CompletableFuture<JsonNode> future = request.future;
+        JsonNode error = response.get("error");
+        if (error != null && !error.isNull()) {
+            future.completeExceptionally(new OgmiosRpcException(error.path("code").asInt(),
+                    error.path("message").asText(), error.get("data")));
+        } else {
+            future.complete(response.get("result"));
+        }
+    }
+
+    /**
+     * Fail requests sent on a connection which is gone. Requests on a newer connection are not affected.
+     */
+    private void failRequests(Connection conn, Throwable cause) {
+        for (PendingRequest request : pendingRequests.values()) {
+            if (request.connection == conn)
+                request.future.completeExceptionally(cause);
+        }
+    }
+
+    private static Function<WebSocket.Listener, WebSocket> webSocketConnector(URI uri) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+        return listener -> httpClient.newWebSocketBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .buildAsync(uri, listener)
+                .join();
+    }
+
+    private static class PendingRequest {
+        private final CompletableFuture<JsonNode> future = new CompletableFuture<>();
+        //Connection the request was sent on
+        private volatile Connection connection;
+    }
+
+    /**
+     * A WebSocket connection. Receives the responses of requests sent on it.
+     */
+    class Connection implements WebSocket.Listener {
+        private final StringBuilder partialMessage = new StringBuilder();
+        private WebSocket webSocket;
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            partialMessage.append(data);
+            if (last) {
+                String message = partialMessage.toString();
+                partialMessage.setLength(0);
+                onResponse(message);
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            log.debug("Ogmios connection closed : {} {}", statusCode, reason);
+            failRequests(this, new IllegalStateException("Ogmios connection closed : " + statusCode + " " + reason));
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            log.warn("Ogmios connection error", error);
+            failRequests(this, error);
+        }
+    }
+}
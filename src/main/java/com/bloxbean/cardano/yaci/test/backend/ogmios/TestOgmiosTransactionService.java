@@ -1,39 +1,145 @@
 package com.bloxbean.cardano.yaci.test.backend.ogmios;
 
 import com.bloxbean.cardano.client.api.exception.ApiException;
+import com.bloxbean.cardano.client.api.model.EvaluationResult;
 import com.bloxbean.cardano.client.api.model.Result;
 import com.bloxbean.cardano.client.backend.model.TransactionContent;
 import com.bloxbean.cardano.client.backend.ogmios.http.OgmiosTransactionService;
+import com.bloxbean.cardano.client.plutus.spec.ExUnits;
+import com.bloxbean.cardano.client.plutus.spec.RedeemerTag;
 import com.bloxbean.cardano.yaci.test.backend.ogmios.http.MatchesApi;
+import com.fasterxml.jackson.databind.JsonNode;
 import feign.Feign;
 import feign.jackson.JacksonDecoder;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 
+/**
+ * Ogmios transaction service for the devnet. Submission and evaluation go through {@link OgmiosWebSocketClient}
+ * when a WebSocket url is given, so concurrent submissions share one connection. Transactions are looked up in Kupo.
+ */
 @Slf4j
-public class TestOgmiosTransactionService extends OgmiosTransactionService {
-    private MatchesApi kupoMatchApi;
+public class TestOgmiosTransactionService extends OgmiosTransactionService implements AutoCloseable {
+    private KupoClient kupoClient;
+    private OgmiosWebSocketClient wsClient;
 
     public TestOgmiosTransactionService(String ogmiosUrl, String kupoUrl) {
         super(ogmiosUrl);
-        this.kupoMatchApi = getFeign().target(MatchesApi.class, kupoUrl);
+        this.kupoClient = new KupoClient(getFeign().target(MatchesApi.class, kupoUrl));
+    }
+
+    public TestOgmiosTransactionService(String ogmiosUrl, String ogmiosWsUrl, String kupoUrl) {
+        this(ogmiosUrl, kupoUrl);
+        this.wsClient = new OgmiosWebSocketClient(ogmiosWsUrl);
+    }
+
+    @Override
+    public Result<String> submitTransaction(byte[] cborData) throws ApiException {
+        if (wsClient == null)
+            return super.submitTransaction(cborData);
+
+        try {
+            String txHash = wsClient.submitTransaction(cborData).get();
+            return Result.success(txHash).withValue(txHash).code(200);
+        } catch (ExecutionException e) {
+            return toError(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while submitting transaction", e);
+        }
+    }
+
+    @Override
+    public Result<List<EvaluationResult>> evaluateTx(byte[] cborData) throws ApiException {
+        if (wsClient == null)
+            return super.evaluateTx(cborData);
+
+        JsonNode validators;
+        try {
+            validators = wsClient.evaluateTransaction(cborData).get();
+        } catch (ExecutionException e) {
+            return toError(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while evaluating transaction", e);
+        }
+
+        List<EvaluationResult> evaluationResults = new ArrayList<>();
+        for (JsonNode validator : validators) {
+            RedeemerTag redeemerTag = redeemerTag(validator.path("validator").path("purpose").asText());
+            //Purpose added in a later era, let the http service map it
+            if (redeemerTag == null)
+                return super.evaluateTx(cborData);
+
+            evaluationResults.add(EvaluationResult.builder()
+                    .redeemerTag(redeemerTag)
+                    .index(validator.path("validator").path("index").asInt())
+                    .exUnits(ExUnits.builder()
+                            .mem(validator.path("budget").path("memory").bigIntegerValue())
+                            .steps(validator.path("budget").path("cpu").bigIntegerValue())
+                            .build())
+                    .build());
+        }
+        return Result.success("OK").withValue(evaluationResults).code(200);
     }
 
     @Override
     public Result<TransactionContent> getTransaction(String txnHash) throws ApiException {
         log.debug("Getting transaction from Kupo : " + txnHash);
-        List<KupoTxn> kupoTxnList = kupoMatchApi.getTransaction(txnHash);
-        log.trace("Kupo Txn : " + kupoTxnList);
+        Optional<KupoTxn> kupoTxn = kupoClient.getTransaction(txnHash);
+        log.trace("Kupo Txn : " + kupoTxn);
 
-        if (kupoTxnList == null || kupoTxnList.isEmpty()) {
+        if (kupoTxn.isEmpty()) {
             return Result.error("Transaction not found in Kupo");
         } else {
-            var transactionContent = TransactionContent.builder()
-                    .index(kupoTxnList.get(0).getTransactionIndex())
-                    .hash(kupoTxnList.get(0).getTransactionId())
-                    .build();
-            return Result.success("Transaction found in Kupo").withValue(transactionContent).code(200);
+            var transactionContentBuilder = TransactionContent.builder()
+                    .index(kupoTxn.get().getTransactionIndex())
+                    .hash(kupoTxn.get().getTransactionId());
+            if (kupoTxn.get().getCreatedAt() != null) {
+                transactionContentBuilder
+                        .slot(kupoTxn.get().getCreatedAt().getSlotNo())
+                        .block(kupoTxn.get().getCreatedAt().getHeaderHash());
+            }
+            return Result.success("Transaction found in Kupo").withValue(transactionContentBuilder.build()).code(200);
+        }
+    }
+
+    /**
+     * Returns the Kupo client used for transaction lookups. It can check many transactions in one request.
+     * @return kupo client
+     */
+    public KupoClient getKupoClient() {
+        return kupoClient;
+    }
+
+    @Override
+    public void close() {
+        if (wsClient != null)
+            wsClient.close();
+    }
+
+    private static <T> Result<T> toError(Throwable error) {
+        if (error instanceof OgmiosRpcException)
+            return Result.error(error.getMessage()).code(400);
+        return Result.error(String.valueOf(error.getMessage())).code(500);
+    }
+
+    private static RedeemerTag redeemerTag(String purpose) {
+        switch (purpose) {
+            case "spend":
+                return RedeemerTag.Spend;
+            case "mint":
+                return RedeemerTag.Mint;
+            case "publish":
+                return RedeemerTag.Cert;
+            case "withdraw":
+                return RedeemerTag.Reward;
+            default:
+                return null;
         }
     }
 
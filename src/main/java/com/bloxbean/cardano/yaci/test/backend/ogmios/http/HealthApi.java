@@ -0,0 +1,12 @@
+package com.bloxbean.cardano.yaci.test.backend.ogmios.http;
+
+import com.bloxbean.cardano.yaci.test.backend.ogmios.KupoHealth;
+import feign.Headers;
+import feign.RequestLine;
+
+public interface HealthApi {
+
+    @Headers("Accept: application/json")
+    @RequestLine("GET health")
+    KupoHealth getHealth();
+}
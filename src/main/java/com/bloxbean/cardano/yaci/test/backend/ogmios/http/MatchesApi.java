@@ -8,7 +8,21 @@ import java.util.List;
 
 public interface MatchesApi {
 
+    /**
+     * @deprecated Kupo scans all matches for this filter. Use {@link #getMatches(String)} with "*@{transaction_id}".
+     */
+    @Deprecated
     @RequestLine("GET v1/matches?transaction_id={transaction_id}")
     List<KupoTxn> getTransaction(@Param("transaction_id") String transactionId);
 
+    /**
+     * Matches for a pattern, e.g. an address, "*@{transaction_id}" or "{output_index}@{transaction_id}"
+     */
+    @RequestLine("GET v1/matches/{pattern}")
+    List<KupoTxn> getMatches(@Param(value = "pattern", encoded = true) String pattern);
+
+    @RequestLine("GET v1/matches/{pattern}?created_after={slot}")
+    List<KupoTxn> getMatchesCreatedAfter(@Param(value = "pattern", encoded = true) String pattern,
+                                         @Param("slot") long slot);
+
 }
@@ -0,0 +1,108 @@
+package com.bloxbean.cardano.yaci.test.backend.store;
+
+import lombok.NonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Implements a backend service interface on top of a store service, which only has the methods Yaci Store supports.
+ * <ul>
+ *     <li>Interface methods with the same name and parameters on the store service are called on it.</li>
+ *     <li>Other default methods run on the proxy, so they use the store methods too.</li>
+ *     <li>Everything else goes to the fallback service, which is created on first use.</li>
+ * </ul>
+ * Store services don't implement the interfaces themselves, so they don't break when an interface gets a new method.
+ */
+class FallbackProxy implements InvocationHandler {
+    private final Class<?> type;
+    private final Object storeService;
+    private final Supplier<?> fallbackSupplier;
+    private final Map<Method, Method> storeMethods = new HashMap<>();
+    private volatile Object fallback;
+
+    private FallbackProxy(Class<?> type, Object storeService, Supplier<?> fallbackSupplier) {
+        this.type = type;
+        this.storeService = storeService;
+        this.fallbackSupplier = fallbackSupplier;
+
+        for (Method method : type.getMethods()) {
+            try {
+                Method storeMethod = storeService.getClass().getMethod(method.getName(), method.getParameterTypes());
+                if (method.getReturnType().isAssignableFrom(storeMethod.getReturnType()))
+                    storeMethods.put(method, storeMethod);
+            } catch (NoSuchMethodException e) {
+                //Not supported by the store
+            }
+        }
+    }
+
+    /**
+     * Create a service which calls the store service where it can and the fallback service otherwise
+     *
+     * @param type service interface
+     * @param storeService store implementation of some of the interface methods
+     * @param fallbackSupplier creates the service for the other methods
+     * @param <T> service type
+     * @return service
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T create(@NonNull Class<T> type, @NonNull Object storeService, @NonNull Supplier<? extends T> fallbackSupplier) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new FallbackProxy(type, storeService, fallbackSupplier));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return type.getSimpleName() + "[" + storeService + "]";
+            }
+        }
+
+        Method storeMethod = storeMethods.get(method);
+        if (storeMethod != null)
+            return invoke(storeMethod, storeService, args);
+
+        if (method.isDefault()) {
+            Class<?> declaringClass = method.getDeclaringClass();
+            return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup())
+                    .unreflectSpecial(method, declaringClass)
+                    .bindTo(proxy)
+                    .invokeWithArguments(args != null ? args : new Object[0]);
+        }
+
+        return invoke(method, fallback(), args);
+    }
+
+    private Object fallback() {
+        Object service = fallback;
+        if (service == null) {
+            synchronized (this) {
+                service = fallback;
+                if (service == null)
+                    fallback = service = fallbackSupplier.get();
+            }
+        }
+        return service;
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.bloxbean.cardano.yaci.test.backend.store;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Data;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class StoreBlock {
+    private String hash;
+    @JsonAlias("number")
+    private long height;
+    private long slot;
+    @JsonAlias("epoch_number")
+    private Integer epoch;
+}
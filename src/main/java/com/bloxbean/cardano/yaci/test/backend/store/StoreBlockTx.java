@@ -0,0 +1,26 @@
+package com.bloxbean.cardano.yaci.test.backend.store;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Data;
+
+/**
+ * Transaction of a block. The store lists block transactions either as plain hashes or as summaries.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class StoreBlockTx {
+    @JsonAlias("hash")
+    private String txHash;
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    static StoreBlockTx of(String txHash) {
+        StoreBlockTx tx = new StoreBlockTx();
+        tx.setTxHash(txHash);
+        return tx;
+    }
+}
@@ -0,0 +1,131 @@
+package com.bloxbean.cardano.yaci.test.backend.store;
+
+import com.bloxbean.cardano.client.backend.blockfrost.service.BFBackendService;
+import com.bloxbean.cardano.yaci.test.backend.store.http.AddressesApi;
+import com.bloxbean.cardano.yaci.test.backend.store.http.BlockApi;
+import com.bloxbean.cardano.yaci.test.backend.store.http.EpochApi;
+import com.bloxbean.cardano.yaci.test.backend.store.http.TransactionApi;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.bloxbean.cardano.client.api.model.Result;
+import feign.Feign;
+import feign.FeignException;
+import feign.Request;
+import feign.codec.Decoder;
+import feign.codec.StringDecoder;
+import feign.http2client.Http2Client;
+import feign.jackson.JacksonDecoder;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign clients for Yaci Store's Blockfrost compatible api. All clients share one {@link HttpClient}, so
+ * connections to the store are pooled and kept alive across services.
+ * <p>
+ * Queries without a store client go to one {@link BFBackendService}, which is only created when one of them is used.
+ */
+@Getter
+class YaciStoreApis {
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final long READ_TIMEOUT_SECONDS = 30;
+    //Yaci Store doesn't check the Blockfrost project id
+    private static final String NO_PROJECT_ID = "yaci-store";
+
+    private final AddressesApi addressesApi;
+    private final BlockApi blockApi;
+    private final EpochApi epochApi;
+    private final TransactionApi transactionApi;
+
+    @Getter(AccessLevel.NONE)
+    private final String storeApiUrl;
+    @Getter(AccessLevel.NONE)
+    private volatile BFBackendService blockfrost;
+
+    YaciStoreApis(@NonNull String storeApiUrl) {
+        this.storeApiUrl = storeApiUrl;
+
+        //Yaci Store doesn't speak h2c, so skip the upgrade attempt on every new connection
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+
+        Feign.Builder builder = Feign.builder()
+                .client(new Http2Client(httpClient))
+                .decoder(decoder(objectMapper()))
+                .options(new Request.Options(CONNECT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS,
+                        READ_TIMEOUT_SECONDS, TimeUnit.SECONDS, true))
+                //Unknown address or tx returns empty value instead of an exception
+                .dismiss404();
+
+        this.addressesApi = builder.target(AddressesApi.class, storeApiUrl);
+        this.blockApi = builder.target(BlockApi.class, storeApiUrl);
+        this.epochApi = builder.target(EpochApi.class, storeApiUrl);
+        this.transactionApi = builder.target(TransactionApi.class, storeApiUrl);
+    }
+
+    /**
+     * Returns the Blockfrost compatible backend service for queries the store clients don't cover
+     * @return backend service, created on first call
+     */
+    BFBackendService blockfrost() {
+        BFBackendService service = blockfrost;
+        if (service == null) {
+            synchronized (this) {
+                service = blockfrost;
+                if (service == null)
+                    blockfrost = service = new BFBackendService(storeApiUrl, NO_PROJECT_ID);
+            }
+        }
+        return service;
+    }
+
+    /**
+     * Store responses use snake case names and carry more fields than the client models
+     */
+    static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true);
+    }
+
+    /**
+     * Plain text responses (e.g. tx hash from submit) are read as is. Everything else is json.
+     */
+    static Decoder decoder(ObjectMapper objectMapper) {
+        Decoder stringDecoder = new StringDecoder();
+        Decoder jsonDecoder = new JacksonDecoder(objectMapper);
+        return (response, type) -> {
+            if (type == String.class)
+                return unquote((String) stringDecoder.decode(response, type));
+            return jsonDecoder.decode(response, type);
+        };
+    }
+
+    static String unquote(String value) {
+        if (value == null)
+            return null;
+        String trimmed = value.trim();
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\""))
+            return trimmed.substring(1, trimmed.length() - 1);
+        return trimmed;
+    }
+
+    /**
+     * Failed request as an error result. The body has the store's error message, e.g. node's rejection reason
+     * for a failed submission.
+     */
+    static <T> Result<T> error(FeignException e) {
+        String message = e.contentUTF8();
+        if (message == null || message.isEmpty())
+            message = e.getMessage();
+        return Result.error(message).code(e.status());
+    }
+}
@@ -0,0 +1,73 @@
+package com.bloxbean.cardano.yaci.test.backend.store;
+
+import com.bloxbean.cardano.client.backend.api.BackendService;
+import com.bloxbean.cardano.client.backend.api.EpochService;
+import com.bloxbean.cardano.client.backend.api.TransactionService;
+import com.bloxbean.cardano.client.backend.api.UtxoService;
+import com.bloxbean.cardano.yaci.test.backend.ChainTipSupplier;
+import com.bloxbean.cardano.yaci.test.backend.TxStatusLookup;
+import lombok.NonNull;
+
+/**
+ * Backend services for Yaci Store. Utxo, epoch and transaction queries, the chain tip supplier and the tx status
+ * lookup talk to the store through one pooled http client. Other queries, e.g. protocol params, go to one Blockfrost
+ * compatible backend service, which is only created when such a query is made.
+ */
+public class YaciStoreBackend {
+    private final YaciStoreApis apis;
+    private final UtxoService utxoService;
+    private final EpochService epochService;
+    private final TransactionService transactionService;
+    private final BackendService backendService;
+    private final YaciStoreTipSupplier chainTipSupplier;
+    private final YaciStoreTxStatusLookup txStatusLookup;
+
+    public YaciStoreBackend(@NonNull String storeApiUrl) {
+        this.apis = new YaciStoreApis(storeApiUrl);
+        this.utxoService = FallbackProxy.create(UtxoService.class, new YaciStoreUtxoService(apis),
+                () -> apis.blockfrost().getUtxoService());
+        this.epochService = FallbackProxy.create(EpochService.class, new YaciStoreEpochService(apis),
+                () -> apis.blockfrost().getEpochService());
+        this.transactionService = FallbackProxy.create(TransactionService.class, new YaciStoreTransactionService(apis),
+                () -> apis.blockfrost().getTransactionService());
+        this.backendService = FallbackProxy.create(BackendService.class, this, apis::blockfrost);
+        this.chainTipSupplier = new YaciStoreTipSupplier(apis);
+        this.txStatusLookup = new YaciStoreTxStatusLookup(apis);
+    }
+
+    /**
+     * Returns a backend service which uses this backend's utxo, epoch and transaction services
+     * @return backend service
+     */
+    public BackendService getBackendService() {
+        return backendService;
+    }
+
+    public UtxoService getUtxoService() {
+        return utxoService;
+    }
+
+    public EpochService getEpochService() {
+        return epochService;
+    }
+
+    public TransactionService getTransactionService() {
+        return transactionService;
+    }
+
+    /**
+     * Returns the chain tip supplier sharing this backend's http client
+     * @return chain tip supplier
+     */
+    public ChainTipSupplier getChainTipSupplier() {
+        return chainTipSupplier;
+    }
+
+    /**
+     * Returns the tx status lookup, which matches pending transactions against the transactions of new blocks
+     * @return tx status lookup
+     */
+    public TxStatusLookup getTxStatusLookup() {
+        return txStatusLookup;
+    }
+}
@@ -0,0 +1,41 @@
+package com.bloxbean.cardano.yaci.test.backend.store;
+
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.backend.model.EpochContent;
+import com.bloxbean.cardano.yaci.test.backend.store.http.EpochApi;
+import feign.FeignException;
+
+/**
+ * Epoch queries read directly from Yaci Store. The latest epoch is checked on every protocol params lookup, so it
+ * goes through the pooled client. Protocol params are fetched once per epoch and use the Blockfrost compatible
+ * service, which normalizes the cost models.
+ */
+class YaciStoreEpochService {
+    private final EpochApi epochApi;
+
+    YaciStoreEpochService(YaciStoreApis apis) {
+        this.epochApi = apis.getEpochApi();
+    }
+
+    public Result<EpochContent> getLatestEpoch() {
+        try {
+            return toResult(epochApi.getLatestEpoch(), "Latest epoch not found");
+        } catch (FeignException e) {
+            return YaciStoreApis.error(e);
+        }
+    }
+
+    public Result<EpochContent> getEpoch(Integer epoch) {
+        try {
+            return toResult(epochApi.getEpochByNumber(epoch), "Epoch not found : " + epoch);
+        } catch (FeignException e) {
+            return YaciStoreApis.error(e);
+        }
+    }
+
+    private static Result<EpochContent> toResult(EpochContent epochContent, String notFoundMessage) {
+        if (epochContent == null)
+            return Result.error(notFoundMessage).code(404);
+        return Result.success("OK").withValue(epochContent).code(200);
+    }
+}
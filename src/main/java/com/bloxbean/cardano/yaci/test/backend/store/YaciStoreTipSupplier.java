@@ -0,0 +1,35 @@
+package com.bloxbean.cardano.yaci.test.backend.store;
+
+import com.bloxbean.cardano.yaci.test.backend.ChainTip;
+import com.bloxbean.cardano.yaci.test.backend.ChainTipSupplier;
+import com.bloxbean.cardano.yaci.test.backend.store.http.BlockApi;
+import lombok.NonNull;
+
+/**
+ * {@link ChainTipSupplier} which reads the latest block indexed by Yaci Store
+ */
+public class YaciStoreTipSupplier implements ChainTipSupplier {
+    private final BlockApi blockApi;
+
+    public YaciStoreTipSupplier(@NonNull String storeApiUrl) {
+        this(new YaciStoreApis(storeApiUrl));
+    }
+
+    YaciStoreTipSupplier(YaciStoreApis apis) {
+        this.blockApi = apis.getBlockApi();
+    }
+
+    @Override
+    public ChainTip getTip() {
+        StoreBlock block = blockApi.getLatestBlock();
+        if (block == null)
+            throw new IllegalStateException("Latest block not found in Yaci Store");
+
+        return ChainTip.builder()
+                .slot(block.getSlot())
+                .blockNumber(block.getHeight())
+                .blockHash(block.getHash())
+                .epoch(block.getEpoch())
+                .build();
+    }
+}
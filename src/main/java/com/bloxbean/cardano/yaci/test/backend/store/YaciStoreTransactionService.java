@@ -0,0 +1,42 @@
+package com.bloxbean.cardano.yaci.test.backend.store;
+
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.backend.model.TransactionContent;
+import com.bloxbean.cardano.yaci.test.backend.store.http.TransactionApi;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Submits cbor and looks up transactions directly in Yaci Store
+ */
+@Slf4j
+class YaciStoreTransactionService {
+    private final TransactionApi transactionApi;
+
+    YaciStoreTransactionService(YaciStoreApis apis) {
+        this.transactionApi = apis.getTransactionApi();
+    }
+
+    public Result<String> submitTransaction(byte[] cborData) {
+        try {
+            String txHash = transactionApi.submit(cborData);
+            if (txHash == null || txHash.isEmpty())
+                return Result.error("Transaction submission failed. No tx hash returned").code(404);
+            return Result.success(txHash).withValue(txHash).code(200);
+        } catch (FeignException e) {
+            log.debug("Transaction submission failed : {}", e.contentUTF8());
+            return YaciStoreApis.error(e);
+        }
+    }
+
+    public Result<TransactionContent> getTransaction(String txnHash) {
+        try {
+            TransactionContent transactionContent = transactionApi.getTransaction(txnHash);
+            if (transactionContent == null)
+                return Result.error("Transaction not found : " + txnHash).code(404);
+            return Result.success("OK").withValue(transactionContent).code(200);
+        } catch (FeignException e) {
+            return YaciStoreApis.error(e);
+        }
+    }
+}
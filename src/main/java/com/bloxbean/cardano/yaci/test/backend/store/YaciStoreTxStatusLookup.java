@@ -0,0 +1,193 @@
+package com.bloxbean.cardano.yaci.test.backend.store;
+
+import com.bloxbean.cardano.client.backend.model.TransactionContent;
+import com.bloxbean.cardano.yaci.test.backend.TxConfirmation;
+import com.bloxbean.cardano.yaci.test.backend.TxStatusLookup;
+import com.bloxbean.cardano.yaci.test.backend.store.http.BlockApi;
+import com.bloxbean.cardano.yaci.test.backend.store.http.TransactionApi;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Finds confirmed transactions by reading the blocks Yaci Store indexed since the previous lookup, and matching
+ * their transaction hashes against the pending ones. Confirming many pending transactions costs a few requests
+ * per new block, not one request per pending transaction.
+ * <p>
+ * The first lookup walks back from the latest block to the slot the transactions were tracked after. A transaction
+ * which is not found that way may have been confirmed before it was tracked, so it is also looked up once by its
+ * hash. Those lookups are limited per batch.
+ */
+@Slf4j
+class YaciStoreTxStatusLookup implements TxStatusLookup {
+    static final int MAX_CACHED_TXS = 100_000;
+    static final int MAX_BLOCKS_PER_SCAN = 100;
+    static final int MAX_HASH_LOOKUPS_PER_BATCH = 10;
+
+    private final BlockApi blockApi;
+    private final TransactionApi transactionApi;
+    private final Map<String, TxConfirmation> confirmedTxs = new ConcurrentHashMap<>();
+    //Insertion order of confirmedTxs, oldest first
+    private final Queue<String> cachedTxHashes = new ConcurrentLinkedQueue<>();
+    //Pending txs which were already looked up by their hash
+    private final Set<String> checkedTxs = ConcurrentHashMap.newKeySet();
+
+    //Blocks after scanStart up to scannedHeight are in the cache. Guarded by this.
+    private long scanStart = -1;
+    private long scannedHeight = -1;
+
+    YaciStoreTxStatusLookup(YaciStoreApis apis) {
+        this(apis.getBlockApi(), apis.getTransactionApi());
+    }
+
+    YaciStoreTxStatusLookup(BlockApi blockApi, TransactionApi transactionApi) {
+        this.blockApi = blockApi;
+        this.transactionApi = transactionApi;
+    }
+
+    @Override
+    public Set<String> findConfirmed(Collection<String> txHashes) {
+        return findConfirmed(txHashes, -1);
+    }
+
+    @Override
+    public Set<String> findConfirmed(Collection<String> txHashes, long trackedAfterSlot) {
+        return new HashSet<>(findConfirmations(txHashes, trackedAfterSlot).keySet());
+    }
+
+    /**
+     * Find confirmed transactions among the given pending ones. Hashes which were passed to an earlier call but are
+     * not in this one are no longer pending, and are forgotten.
+     */
+    @Override
+    public Map<String, TxConfirmation> findConfirmations(Collection<String> txHashes, long trackedAfterSlot) {
+        Set<String> pending = new HashSet<>(txHashes);
+        checkedTxs.retainAll(pending);
+
+        Map<String, TxConfirmation> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String txHash : pending) {
+            TxConfirmation cached = confirmedTxs.get(txHash);
+            if (cached != null)
+                found.put(txHash, cached);
+            else
+                missing.add(txHash);
+        }
+
+        if (missing.isEmpty())
+            return found;
+
+        scanBlocks(trackedAfterSlot);
+
+        int hashLookups = 0;
+        for (String txHash : missing) {
+            TxConfirmation confirmation = confirmedTxs.get(txHash);
+            if (confirmation == null && hashLookups < MAX_HASH_LOOKUPS_PER_BATCH && checkedTxs.add(txHash)) {
+                hashLookups++;
+                confirmation = lookup(txHash);
+            }
+
+            if (confirmation != null) {
+                checkedTxs.remove(txHash);
+                found.put(txHash, confirmation);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns no of cached confirmed transactions
+     * @return no of cached transactions
+     */
+    int getCachedTransactions() {
+        return confirmedTxs.size();
+    }
+
+    /**
+     * Cache transactions of the blocks added since the previous scan. If the previous scan doesn't cover the given
+     * slot, walk back from the latest block to it instead. Both are limited to {@link #MAX_BLOCKS_PER_SCAN} blocks.
+     */
+    private synchronized void scanBlocks(long trackedAfterSlot) {
+        StoreBlock latest = blockApi.getLatestBlock();
+        if (latest == null)
+            return;
+
+        long to = latest.getHeight();
+        if (scannedHeight >= 0 && trackedAfterSlot >= scanStart) {
+            for (long height = Math.max(scannedHeight + 1, to - MAX_BLOCKS_PER_SCAN + 1); height < to; height++) {
+                StoreBlock block = blockApi.getBlock(String.valueOf(height));
+                if (block != null)
+                    cacheTxs(block);
+            }
+            if (to > scannedHeight)
+                cacheTxs(latest);
+        } else {
+            StoreBlock block = latest;
+            for (int i = 0; block != null && i < MAX_BLOCKS_PER_SCAN; i++) {
+                cacheTxs(block);
+                if (trackedAfterSlot < 0 || block.getSlot() <= trackedAfterSlot || block.getHeight() <= 0)
+                    break;
+                block = blockApi.getBlock(String.valueOf(block.getHeight() - 1));
+            }
+            scanStart = Math.max(trackedAfterSlot, 0);
+        }
+        //A lower height means the devnet was reset
+        scannedHeight = to;
+    }
+
+    private void cacheTxs(StoreBlock block) {
+        List<StoreBlockTx> txs = blockApi.getBlockTxs(block.getHash());
+        if (txs == null)
+            return;
+
+        for (StoreBlockTx tx : txs) {
+            if (tx.getTxHash() == null)
+                continue;
+            cache(TxConfirmation.builder()
+                    .txHash(tx.getTxHash())
+                    .slot(block.getSlot())
+                    .blockNumber(block.getHeight())
+                    .blockHash(block.getHash())
+                    .build());
+        }
+        log.trace("Scanned {} txs of block {}", txs.size(), block.getHeight());
+    }
+
+    private TxConfirmation lookup(String txHash) {
+        TransactionContent content;
+        try {
+            content = transactionApi.getTransaction(txHash);
+        } catch (FeignException e) {
+            log.debug("Transaction lookup failed : {}", txHash, e);
+            return null;
+        }
+        if (content == null)
+            return null;
+
+        TxConfirmation confirmation = TxConfirmation.builder()
+                .txHash(txHash)
+                .slot(content.getSlot())
+                .blockNumber(content.getBlockHeight())
+                .blockHash(content.getBlock())
+                .build();
+        cache(confirmation);
+        return confirmation;
+    }
+
+    private void cache(TxConfirmation confirmation) {
+        String txHash = confirmation.getTxHash();
+        if (confirmedTxs.putIfAbsent(txHash, confirmation) != null)
+            return;
+
+        cachedTxHashes.add(txHash);
+        while (confirmedTxs.size() > MAX_CACHED_TXS) {
+            String eldest = cachedTxHashes.poll();
+            if (eldest == null)
+                break;
+            confirmedTxs.remove(eldest);
+        }
+    }
+}
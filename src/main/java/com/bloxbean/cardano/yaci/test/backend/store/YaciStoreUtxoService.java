@@ -0,0 +1,37 @@
+package com.bloxbean.cardano.yaci.test.backend.store;
+
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.yaci.test.backend.store.http.AddressesApi;
+import feign.FeignException;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Utxo queries read directly from Yaci Store. {@link YaciStoreBackend#getUtxoService()} sends the other
+ * {@code UtxoService} methods to the Blockfrost compatible service.
+ */
+class YaciStoreUtxoService {
+    private final AddressesApi addressesApi;
+
+    YaciStoreUtxoService(YaciStoreApis apis) {
+        this.addressesApi = apis.getAddressesApi();
+    }
+
+    public Result<List<Utxo>> getUtxos(String address, int count, int page) {
+        return getUtxos(address, count, page, OrderEnum.asc);
+    }
+
+    public Result<List<Utxo>> getUtxos(String address, int count, int page, OrderEnum order) {
+        try {
+            List<Utxo> utxos = addressesApi.getUtxos(address, count, page, order.name());
+            if (utxos == null)
+                utxos = Collections.emptyList();
+            return Result.success("OK").withValue(utxos).code(200);
+        } catch (FeignException e) {
+            return YaciStoreApis.error(e);
+        }
+    }
+}
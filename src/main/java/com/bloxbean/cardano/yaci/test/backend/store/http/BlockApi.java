@@ -0,0 +1,19 @@
+package com.bloxbean.cardano.yaci.test.backend.store.http;
+
+import com.bloxbean.cardano.yaci.test.backend.store.StoreBlock;
+import com.bloxbean.cardano.yaci.test.backend.store.StoreBlockTx;
+import feign.Param;
+import feign.RequestLine;
+
+import java.util.List;
+
+public interface BlockApi {
+    @RequestLine("GET blocks/latest")
+    StoreBlock getLatestBlock();
+
+    @RequestLine("GET blocks/{numberOrHash}")
+    StoreBlock getBlock(@Param("numberOrHash") String numberOrHash);
+
+    @RequestLine("GET blocks/{numberOrHash}/txs")
+    List<StoreBlockTx> getBlockTxs(@Param("numberOrHash") String numberOrHash);
+}
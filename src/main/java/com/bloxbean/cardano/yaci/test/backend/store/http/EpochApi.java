@@ -1,6 +1,5 @@
 package com.bloxbean.cardano.yaci.test.backend.store.http;
 
-import com.bloxbean.cardano.client.api.model.ProtocolParams;
 import com.bloxbean.cardano.client.backend.model.EpochContent;
 import feign.Param;
 import feign.RequestLine;
@@ -11,8 +10,4 @@ public interface EpochApi {
 
     @RequestLine("GET epochs/{number}")
     EpochContent getEpochByNumber(@Param("number") Integer number);
-
-    @RequestLine("GET epochs/{number}/parameters")
-    ProtocolParams getProtocolParameters(@Param("number") Integer number);
-
 }
@@ -0,0 +1,57 @@
+package com.bloxbean.cardano.yaci.test.junit;
+
+import com.bloxbean.cardano.yaci.test.YaciCardanoContainer;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.*;
+import java.util.function.Supplier;
+
+/**
+ * Runs test classes against a group of devnets started in parallel. Each test class gets one container of the group
+ * for exclusive use while it runs, so test classes executed in parallel don't share a devnet. Classes annotated with
+ * same group configuration share the group, which is stopped when all tests are done. The devnet is reset to genesis
+ * before its container is handed to the next test class.
+ * <p>
+ * The container is injected into constructor, lifecycle and test method parameters of type
+ * {@link YaciCardanoContainer}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@ExtendWith(YaciContainerGroupExtension.class)
+public @interface YaciContainerGroup {
+
+    /**
+     * No of containers in the group
+     */
+    int size() default 2;
+
+    /**
+     * Max no of containers started at the same time. Defaults to group size.
+     */
+    int parallelism() default 0;
+
+    /**
+     * Max seconds a test class waits for a free container of the group. If all containers are still used by other
+     * classes after this time, the class fails.
+     */
+    long waitTimeout() default 600;
+
+    /**
+     * Reset the devnet after the test class, so that the next class starts from genesis
+     */
+    boolean reset() default true;
+
+    /**
+     * Creates the containers of the group. Should have a public no-arg constructor.
+     */
+    Class<? extends Supplier<YaciCardanoContainer>> factory() default DefaultContainerFactory.class;
+
+    class DefaultContainerFactory implements Supplier<YaciCardanoContainer> {
+        @Override
+        public YaciCardanoContainer get() {
+            return new YaciCardanoContainer();
+        }
+    }
+}
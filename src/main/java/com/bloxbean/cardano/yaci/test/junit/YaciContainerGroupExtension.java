@@ -0,0 +1,119 @@
+package com.bloxbean.cardano.yaci.test.junit;
+
+import com.bloxbean.cardano.yaci.test.YaciCardanoContainer;
+import com.bloxbean.cardano.yaci.test.YaciCardanoContainers;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.*;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * JUnit 5 extension for {@link YaciContainerGroup}
+ */
+@Slf4j
+public class YaciContainerGroupExtension implements BeforeAllCallback, AfterAllCallback, ParameterResolver {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(YaciContainerGroupExtension.class);
+    private static final String CONTAINER_KEY = "container";
+    private static final String GROUP_KEY = "group";
+
+    @Override
+    public void beforeAll(ExtensionContext context) throws Exception {
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        //Nested classes use the container of the enclosing class
+        if (store.get(CONTAINER_KEY) != null)
+            return;
+
+        YaciContainerGroup config = findConfig(context);
+        String groupKey = config.factory().getName() + ":" + config.size();
+        ContainerGroup group = context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(groupKey, key -> ContainerGroup.start(config), ContainerGroup.class);
+
+        YaciCardanoContainer container = group.available.poll(config.waitTimeout(), TimeUnit.SECONDS);
+        if (container == null)
+            throw new ExtensionContextException("No free container in group " + groupKey + " after "
+                    + config.waitTimeout() + " seconds for " + context.getRequiredTestClass().getName()
+                    + ". Increase the group size or waitTimeout, or check for containers which failed to reset.");
+        log.debug("Container {} assigned to {}", container.getContainerId(), context.getRequiredTestClass().getName());
+        store.put(CONTAINER_KEY, container);
+        store.put(GROUP_KEY, group);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        ContainerGroup group = store.remove(GROUP_KEY, ContainerGroup.class);
+        YaciCardanoContainer container = store.remove(CONTAINER_KEY, YaciCardanoContainer.class);
+        if (group == null || container == null)
+            return;
+
+        if (findConfig(context).reset()) {
+            try {
+                container.resetDevnet();
+            } catch (Exception e) {
+                //Not handed out again. It is stopped with the group.
+                log.warn("Container {} could not be reset and is removed from the group", container.getContainerId(), e);
+                return;
+            }
+        }
+        group.available.add(container);
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == YaciCardanoContainer.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        YaciCardanoContainer container = extensionContext.getStore(NAMESPACE).get(CONTAINER_KEY, YaciCardanoContainer.class);
+        if (container == null)
+            throw new ParameterResolutionException("No container assigned to " + extensionContext.getDisplayName());
+        return container;
+    }
+
+    private static YaciContainerGroup findConfig(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestClass(), YaciContainerGroup.class)
+                .orElseThrow(() -> new ExtensionConfigurationException("@YaciContainerGroup not found"));
+    }
+
+    static class ContainerGroup implements ExtensionContext.Store.CloseableResource {
+        private final List<YaciCardanoContainer> containers;
+        private final BlockingQueue<YaciCardanoContainer> available;
+
+        private ContainerGroup(List<YaciCardanoContainer> containers) {
+            this.containers = containers;
+            this.available = new LinkedBlockingQueue<>(containers);
+        }
+
+        static ContainerGroup start(YaciContainerGroup config) {
+            if (config.size() < 1)
+                throw new ExtensionConfigurationException("Container group size should be at least 1");
+
+            Supplier<YaciCardanoContainer> factory;
+            try {
+                factory = config.factory().getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new ExtensionConfigurationException("Container factory could not be created : " + config.factory(), e);
+            }
+
+            List<YaciCardanoContainer> containers = new ArrayList<>();
+            for (int i = 0; i < config.size(); i++) {
+                containers.add(factory.get());
+            }
+
+            int parallelism = config.parallelism() > 0 ? config.parallelism() : config.size();
+            return new ContainerGroup(YaciCardanoContainers.startAll(parallelism, containers));
+        }
+
+        @Override
+        public void close() {
+            YaciCardanoContainers.stopAll(containers);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.bloxbean.cardano.yaci.test.junit;
+
+import com.bloxbean.cardano.yaci.test.ApiMode;
+import com.bloxbean.cardano.yaci.test.YaciCardanoContainer;
+import com.bloxbean.cardano.yaci.test.api.helper.YaciTestHelper;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.*;
+
+/**
+ * Runs a test class against a started devnet. The container is taken from
+ * {@link com.bloxbean.cardano.yaci.test.YaciCardanoContainerPool}, so test classes with same configuration share one
+ * running container, and the devnet is reset to genesis between classes.
+ * <p>
+ * Following types are injected into constructor, lifecycle and test method parameters:
+ * {@link YaciCardanoContainer}, {@link YaciTestHelper},
+ * {@link com.bloxbean.cardano.client.api.UtxoSupplier}, {@link com.bloxbean.cardano.client.api.ProtocolParamsSupplier},
+ * {@link com.bloxbean.cardano.client.api.TransactionProcessor} and
+ * {@link com.bloxbean.cardano.client.backend.api.BackendService}.
+ * An {@link com.bloxbean.cardano.client.account.Account} parameter gets a funded account of its own
+ * (see {@link YaciTestHelper#acquireTestAccount()}), so that test methods can run in parallel.
+ * <pre>
+ * &#64;YaciDevnet(initialFunding = "addr_test1...:20000")
+ * class MyTest {
+ *     &#64;Test
+ *     void transfer(YaciTestHelper testHelper) { ... }
+ * }
+ * </pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@ExtendWith(YaciDevnetExtension.class)
+public @interface YaciDevnet {
+
+    /**
+     * yaci-cli image tag
+     */
+    String tag() default YaciCardanoContainer.DEFAULT_TAG;
+
+    ApiMode apiMode() default ApiMode.YACI_STORE;
+
+    /**
+     * Block time in seconds
+     */
+    float blockTime() default 1;
+
+    /**
+     * Initial fundings in "address:ada" format
+     */
+    String[] initialFunding() default {};
+
+    /**
+     * No of test accounts funded at devnet start. See {@link YaciCardanoContainer#withTestAccounts(int, long)}
+     */
+    int testAccounts() default 0;
+
+    /**
+     * Ada per test account
+     */
+    long testAccountAda() default 1000;
+
+    /**
+     * Start from a devnet snapshot image. See {@link YaciCardanoContainer#withSnapshot()}
+     */
+    boolean snapshot() default false;
+
+    /**
+     * Log backend call metrics when the pooled container is stopped at the end of the test run.
+     * See {@link YaciCardanoContainer#getMetrics()}
+     */
+    boolean metricsReport() default false;
+
+    /**
+     * Reset the devnet after the test class, so that the next class starts from genesis
+     */
+    boolean reset() default true;
+}
@@ -0,0 +1,119 @@
+package com.bloxbean.cardano.yaci.test.junit;
+
+import com.bloxbean.cardano.client.account.Account;
+import com.bloxbean.cardano.client.api.ProtocolParamsSupplier;
+import com.bloxbean.cardano.client.api.TransactionProcessor;
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.backend.api.BackendService;
+import com.bloxbean.cardano.yaci.test.Funding;
+import com.bloxbean.cardano.yaci.test.YaciCardanoContainer;
+import com.bloxbean.cardano.yaci.test.YaciCardanoContainerPool;
+import com.bloxbean.cardano.yaci.test.api.helper.YaciTestHelper;
+import org.junit.jupiter.api.extension.*;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Arrays;
+
+/**
+ * JUnit 5 extension for {@link YaciDevnet}
+ */
+public class YaciDevnetExtension implements BeforeAllCallback, AfterAllCallback, ParameterResolver {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(YaciDevnetExtension.class);
+    private static final String CONTAINER_KEY = "container";
+    private static final String POOL_KEY = "pool";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        //Nested classes use the container of the enclosing class
+        if (store.get(CONTAINER_KEY) != null)
+            return;
+
+        YaciDevnet config = findConfig(context);
+        //Stop pooled containers when the test plan is done instead of waiting for JVM shutdown
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(POOL_KEY, key ->
+                (ExtensionContext.Store.CloseableResource) YaciCardanoContainerPool::stopAll);
+
+        YaciCardanoContainer container = YaciCardanoContainerPool.acquire(() -> createContainer(config));
+        store.put(CONTAINER_KEY, container);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        YaciCardanoContainer container = context.getStore(NAMESPACE).remove(CONTAINER_KEY, YaciCardanoContainer.class);
+        if (container != null)
+            YaciCardanoContainerPool.release(container, findConfig(context).reset());
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        Class<?> type = parameterContext.getParameter().getType();
+        return type == YaciCardanoContainer.class
+                || type == YaciTestHelper.class
+                || type == UtxoSupplier.class
+                || type == ProtocolParamsSupplier.class
+                || type == TransactionProcessor.class
+                || type == BackendService.class
+                || type == Account.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        YaciCardanoContainer container = extensionContext.getStore(NAMESPACE).get(CONTAINER_KEY, YaciCardanoContainer.class);
+        if (container == null)
+            throw new ParameterResolutionException("No devnet started for " + extensionContext.getDisplayName());
+
+        Class<?> type = parameterContext.getParameter().getType();
+        if (type == YaciCardanoContainer.class)
+            return container;
+        else if (type == YaciTestHelper.class)
+            return container.getTestHelper();
+        else if (type == UtxoSupplier.class)
+            return container.getUtxoSupplier();
+        else if (type == ProtocolParamsSupplier.class)
+            return container.getProtocolParamsSupplier();
+        else if (type == TransactionProcessor.class)
+            return container.getTransactionProcessor();
+        else if (type == BackendService.class)
+            return container.getBackendService();
+        else if (type == Account.class)
+            return container.getTestHelper().acquireTestAccount();
+        else
+            throw new ParameterResolutionException("Unsupported parameter type : " + type);
+    }
+
+    private static YaciDevnet findConfig(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestClass(), YaciDevnet.class)
+                .orElseThrow(() -> new ExtensionConfigurationException("@YaciDevnet not found"));
+    }
+
+    static YaciCardanoContainer createContainer(YaciDevnet config) {
+        YaciCardanoContainer container = new YaciCardanoContainer(config.tag(), config.blockTime())
+                .withApiMode(config.apiMode());
+
+        Funding[] fundings = Arrays.stream(config.initialFunding())
+                .map(YaciDevnetExtension::parseFunding)
+                .toArray(Funding[]::new);
+        container.withInitialFunding(fundings);
+        if (config.testAccounts() > 0)
+            container.withTestAccounts(config.testAccounts(), config.testAccountAda());
+
+        if (config.snapshot())
+            container.withSnapshot();
+        if (config.metricsReport())
+            container.withMetricsReport(true);
+        return container;
+    }
+
+    private static Funding parseFunding(String funding) {
+        int index = funding.lastIndexOf(':');
+        if (index <= 0 || index == funding.length() - 1)
+            throw new ExtensionConfigurationException("Invalid initial funding. Expected address:ada, but was " + funding);
+
+        try {
+            return new Funding(funding.substring(0, index).trim(), Long.parseLong(funding.substring(index + 1).trim()));
+        } catch (NumberFormatException e) {
+            throw new ExtensionConfigurationException("Invalid ada value in initial funding : " + funding, e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.bloxbean.cardano.yaci.test;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class YaciCardanoContainerPoolTest {
+
+    @Test
+    void poolKey_sameConfiguration() {
+        YaciCardanoContainerPool.PoolKey key1 = YaciCardanoContainerPool.PoolKey.of(new YaciCardanoContainer()
+                .withInitialFunding(new Funding("addr_test1", 20000)));
+        YaciCardanoContainerPool.PoolKey key2 = YaciCardanoContainerPool.PoolKey.of(new YaciCardanoContainer()
+                .withInitialFunding(new Funding("addr_test1", 20000)));
+
+        assertThat(key1).isEqualTo(key2);
+    }
+
+    @Test
+    void poolKey_differentConfiguration() {
+        YaciCardanoContainerPool.PoolKey key = YaciCardanoContainerPool.PoolKey.of(new YaciCardanoContainer());
+
+        assertThat(YaciCardanoContainerPool.PoolKey.of(new YaciCardanoContainer().withApiMode(ApiMode.OGMIOS)))
+                .isNotEqualTo(key);
+        assertThat(YaciCardanoContainerPool.PoolKey.of(new YaciCardanoContainer(
+                DockerImageName.parse("bloxbean/yaci-cli:0.10.0-preview2"), 2)))
+                .isNotEqualTo(key);
+        assertThat(YaciCardanoContainerPool.PoolKey.of(new YaciCardanoContainer()
+                .withInitialFunding(new Funding("addr_test1", 20000))))
+                .isNotEqualTo(key);
+        assertThat(YaciCardanoContainerPool.PoolKey.of(new YaciCardanoContainer(
+                DockerImageName.parse("bloxbean/yaci-cli:0.10.0-preview2"), 1, 300)))
+                .isNotEqualTo(key);
+        assertThat(YaciCardanoContainerPool.PoolKey.of(new YaciCardanoContainer()
+                .withConfirmationTimeout(Duration.ofMinutes(5))))
+                .isNotEqualTo(key);
+    }
+
+    @Test
+    void waitTimeout_perContainer() {
+        YaciCardanoContainer container = new YaciCardanoContainer(
+                DockerImageName.parse("bloxbean/yaci-cli:0.10.0-preview2"), 1, 300);
+        YaciCardanoContainer defaultContainer = new YaciCardanoContainer();
+
+        assertThat(container.getWaitTimeout()).isEqualTo(300);
+        assertThat(defaultContainer.getWaitTimeout()).isEqualTo(120);
+    }
+}
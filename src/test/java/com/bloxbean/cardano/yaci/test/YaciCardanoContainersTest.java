@@ -0,0 +1,117 @@
+package com.bloxbean.cardano.yaci.test;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.ContainerLaunchException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class YaciCardanoContainersTest {
+
+    @Test
+    void startAll_noContainers() {
+        assertThat(YaciCardanoContainers.startAll(2, Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    void startAll_invalidParallelism() {
+        assertThrows(IllegalArgumentException.class,
+                () -> YaciCardanoContainers.startAll(0, List.of(new YaciCardanoContainer())));
+    }
+
+    @Test
+    void startAll_concurrentStartsBoundedByParallelism() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<YaciCardanoContainer> containers = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            containers.add(new FakeContainer(running, maxRunning, false));
+        }
+
+        List<YaciCardanoContainer> started = YaciCardanoContainers.startAll(2, containers);
+
+        assertThat(started).containsExactlyElementsOf(containers);
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(containers).allMatch(container -> ((FakeContainer) container).started);
+    }
+
+    @Test
+    void startAll_failuresAddedAsSuppressed() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<YaciCardanoContainer> containers = List.of(
+                new FakeContainer(running, maxRunning, true),
+                new FakeContainer(running, maxRunning, false),
+                new FakeContainer(running, maxRunning, true));
+
+        ContainerLaunchException exception = assertThrows(ContainerLaunchException.class,
+                () -> YaciCardanoContainers.startAll(3, containers));
+
+        assertThat(exception.getMessage()).isEqualTo("2 of 3 containers failed to start");
+        assertThat(exception.getSuppressed())
+                .hasSize(2)
+                .allMatch(e -> e instanceof IllegalStateException && e.getMessage().equals("start failed"));
+    }
+
+    @Test
+    void startAll_stopsStartedContainersWhenOneFails() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        FakeContainer first = new FakeContainer(running, maxRunning, false);
+        FakeContainer failing = new FakeContainer(running, maxRunning, true);
+        FakeContainer last = new FakeContainer(running, maxRunning, false);
+
+        assertThrows(ContainerLaunchException.class,
+                () -> YaciCardanoContainers.startAll(2, List.of(first, failing, last)));
+
+        assertThat(first.started).isTrue();
+        assertThat(last.started).isTrue();
+        assertThat(first.stopped).isTrue();
+        assertThat(last.stopped).isTrue();
+        //A failed start may leave a running container behind, so it's stopped too
+        assertThat(failing.stopped).isTrue();
+    }
+
+    /**
+     * Container which records start and stop calls instead of running docker
+     */
+    private static class FakeContainer extends YaciCardanoContainer {
+        private final AtomicInteger running;
+        private final AtomicInteger maxRunning;
+        private final boolean failStart;
+        private volatile boolean started;
+        private volatile boolean stopped;
+
+        FakeContainer(AtomicInteger running, AtomicInteger maxRunning, boolean failStart) {
+            this.running = running;
+            this.maxRunning = maxRunning;
+            this.failStart = failStart;
+        }
+
+        @Override
+        public void start() {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+
+            if (failStart)
+                throw new IllegalStateException("start failed");
+            started = true;
+        }
+
+        @Override
+        public void stop() {
+            stopped = true;
+        }
+    }
+}
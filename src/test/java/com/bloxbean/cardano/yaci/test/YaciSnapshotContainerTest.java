@@ -0,0 +1,72 @@
+package com.bloxbean.cardano.yaci.test;
+
+import com.bloxbean.cardano.client.account.Account;
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.backend.model.EpochContent;
+import com.bloxbean.cardano.client.common.model.Networks;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.bloxbean.cardano.client.common.ADAConversionUtil.adaToLovelace;
+import static com.bloxbean.cardano.yaci.test.api.Assertions.assertMe;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class YaciSnapshotContainerTest {
+    //Fixed address, so that the snapshot image is built once and reused across runs
+    private static final Account account = Account.createFromMnemonic(Networks.testnet(),
+            YaciCardanoContainer.DEFAULT_TEST_ACCOUNT_MNEMONIC);
+
+    @Test
+    void startFromSnapshot_restartAndSubmit() {
+        String receiver1 = new Account(Networks.testnet()).baseAddress();
+        String receiver2 = new Account(Networks.testnet()).baseAddress();
+
+        String snapshotImage;
+        try (YaciCardanoContainer container = snapshotContainer()) {
+            container.start();
+            snapshotImage = container.getDockerImageName();
+            assertThat(snapshotImage).startsWith(YaciSnapshotImages.SNAPSHOT_REPOSITORY + ":");
+
+            assertStartedDevnet(container);
+            transferAda(container, receiver1);
+        }
+
+        //Second start uses the same image and begins from the snapshot state, not from the first run's chain
+        try (YaciCardanoContainer container = snapshotContainer()) {
+            container.start();
+            assertThat(container.getDockerImageName()).isEqualTo(snapshotImage);
+
+            assertStartedDevnet(container);
+            assertThat(container.getTestHelper().lovelaceBalance(receiver1)).isEmpty();
+            transferAda(container, receiver2);
+        }
+    }
+
+    private static YaciCardanoContainer snapshotContainer() {
+        return new YaciCardanoContainer()
+                .withInitialFunding(new Funding(account.baseAddress(), 20000))
+                .withSnapshot()
+                .withLogConsumer(outputFrame -> log.info(outputFrame.getUtf8String()));
+    }
+
+    /**
+     * Initial funding and the hard fork are in the snapshot, so they are there right after start
+     */
+    private static void assertStartedDevnet(YaciCardanoContainer container) {
+        assertMe(container).hasLovelaceBalance(account.baseAddress(), adaToLovelace(20000));
+
+        Result<EpochContent> epoch = container.getEpochService().getLatestEpoch();
+        assertThat(epoch.isSuccessful()).isTrue();
+        assertThat(epoch.getValue().getEpoch()).isGreaterThanOrEqualTo(1);
+    }
+
+    private static void transferAda(YaciCardanoContainer container, String receiver) {
+        Optional<String> txHash = container.getTestHelper().transferAda(receiver, 100);
+
+        assertThat(txHash).isPresent();
+        assertMe(container).hasLovelaceBalance(receiver, adaToLovelace(100));
+    }
+}
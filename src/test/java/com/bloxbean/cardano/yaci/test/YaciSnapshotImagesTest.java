@@ -0,0 +1,30 @@
+package com.bloxbean.cardano.yaci.test;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class YaciSnapshotImagesTest {
+
+    @Test
+    void cacheKey_independentOfFundingOrder() {
+        Funding funding1 = new Funding("addr_test1", 20000);
+        Funding funding2 = new Funding("addr_test2", 10000);
+
+        String key1 = YaciSnapshotImages.cacheKey(new YaciCardanoContainer().withInitialFunding(funding1, funding2));
+        String key2 = YaciSnapshotImages.cacheKey(new YaciCardanoContainer().withInitialFunding(funding2, funding1));
+
+        assertThat(key1).isEqualTo(key2).hasSize(16);
+    }
+
+    @Test
+    void cacheKey_changesWithConfiguration() {
+        String key = YaciSnapshotImages.cacheKey(new YaciCardanoContainer());
+
+        assertThat(YaciSnapshotImages.cacheKey(new YaciCardanoContainer("0.10.0-preview1"))).isNotEqualTo(key);
+        assertThat(YaciSnapshotImages.cacheKey(new YaciCardanoContainer().withApiMode(ApiMode.OGMIOS))).isNotEqualTo(key);
+        assertThat(YaciSnapshotImages.cacheKey(new YaciCardanoContainer()
+                .withInitialFunding(new Funding("addr_test1", 20000)))).isNotEqualTo(key);
+        assertThat(YaciSnapshotImages.cacheKey(new YaciCardanoContainer().withTestAccounts(2, 1000))).isNotEqualTo(key);
+    }
+}
@@ -17,6 +17,7 @@ import java.util.List;
 import static com.bloxbean.cardano.client.common.ADAConversionUtil.adaToLovelace;
 import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
 import static com.bloxbean.cardano.yaci.test.api.Assertions.assertMe;
+import static org.assertj.core.api.Assertions.assertThat;
 
 class UtxoListAssertTest {
 
@@ -119,6 +120,71 @@ class UtxoListAssertTest {
         assertMe(utxos).containsReferenceScript(plutusScript);
     }
 
+    @Test
+    void chainedAssertions() throws Exception {
+        List<Utxo> utxos = testUtxosWithDatumsAndRefScriptHash();
+
+        PlutusV2Script plutusScript = PlutusV2Script.builder()
+                .type("PlutusScriptV2")
+                .cborHex("49480100002221200101")
+                .build();
+
+        assertMe(utxos)
+                .containsInlineDatum(new Datum1(5, 10))
+                .containsInlineDatum(new Datum2("John"))
+                .containsDatumHash(Configuration.INSTANCE.getPlutusObjectConverter().toPlutusData(new Datum1(5, 10)).getDatumHash())
+                .containsReferenceScript(plutusScript)
+                .hasLovelaceBalance(balance -> balance.signum() > 0);
+    }
+
+    @Test
+    void containsInlineDatums() {
+        List<Utxo> utxos = testUtxosWithDatumsAndRefScriptHash();
+
+        assertMe(utxos).containsInlineDatums(List.of(new Datum1(5, 10), new Datum2("John")));
+    }
+
+    @Test
+    void containsInlineDatums_reportsAllMissing() {
+        List<Utxo> utxos = testUtxosWithDatumsAndRefScriptHash();
+
+        AssertionError error = org.junit.jupiter.api.Assertions.assertThrows(AssertionError.class, () -> {
+            assertMe(utxos).containsInlineDatums(List.of(new Datum1(5, 10), new Datum1(5, 20), new Datum2("Bob")));
+        });
+        assertThat(error.getMessage()).contains("<2> of <3>");
+    }
+
+    @Test
+    void containsDatumHashes_reportsAllMissing() {
+        List<Utxo> utxos = testUtxosWithDatumsAndRefScriptHash();
+        String datumHash = Configuration.INSTANCE.getPlutusObjectConverter().toPlutusData(new Datum1(5, 10)).getDatumHash();
+
+        assertMe(utxos).containsDatumHashes(List.of(datumHash));
+        AssertionError error = org.junit.jupiter.api.Assertions.assertThrows(AssertionError.class, () -> {
+            assertMe(utxos).containsDatumHashes(List.of(datumHash, "hash1", "hash2"));
+        });
+        assertThat(error.getMessage()).contains("hash1").contains("hash2");
+    }
+
+    @Test
+    void containsReferenceScripts() {
+        List<Utxo> utxos = testUtxosWithDatumsAndRefScriptHash();
+
+        PlutusV2Script existing = PlutusV2Script.builder()
+                .type("PlutusScriptV2")
+                .cborHex("49480100002221200101")
+                .build();
+        PlutusV2Script notExisting = PlutusV2Script.builder()
+                .type("PlutusScriptV2")
+                .cborHex("4e4d01000033222220051200120011")
+                .build();
+
+        assertMe(utxos).containsReferenceScripts(List.of(existing));
+        org.junit.jupiter.api.Assertions.assertThrows(AssertionError.class, () -> {
+            assertMe(utxos).containsReferenceScripts(List.of(existing, notExisting));
+        });
+    }
+
     @Test
     void containsReferenceScriptHash_not_exists() throws Exception {
         List<Utxo> utxos = testUtxosWithDatumsAndRefScriptHash();
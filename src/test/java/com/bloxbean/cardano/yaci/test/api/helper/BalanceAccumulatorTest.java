@@ -0,0 +1,72 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BalanceAccumulatorTest {
+    private static final String UNIT_1 = "a9a750f73f678495ccc869ba300c983814d3079367f0cf909afea8d6616263";
+    private static final String UNIT_2 = "96662071b76a743e44c2267e85f5fa86f9a01a1bea53be5dd812378f57455448";
+
+    @Test
+    void balances_sumPerUnit() {
+        List<Utxo> utxos = List.of(
+                utxo(new Amount(UNIT_1, BigInteger.valueOf(10)), new Amount(LOVELACE, BigInteger.valueOf(1000))),
+                utxo(new Amount(LOVELACE, BigInteger.valueOf(2000)), new Amount(UNIT_2, BigInteger.valueOf(5))),
+                utxo(new Amount(LOVELACE, BigInteger.valueOf(3000)), new Amount(UNIT_1, BigInteger.valueOf(20))));
+
+        Balances balances = Balances.of(utxos);
+
+        assertThat(balances.lovelace()).isEqualTo(BigInteger.valueOf(6000));
+        assertThat(balances.get(UNIT_1)).isEqualTo(BigInteger.valueOf(30));
+        assertThat(balances.get(UNIT_2)).isEqualTo(BigInteger.valueOf(5));
+        assertThat(balances.get("unknown")).isEqualTo(BigInteger.ZERO);
+        assertThat(balances.find("unknown")).isEmpty();
+        assertThat(balances.units()).containsExactly(LOVELACE, UNIT_1, UNIT_2);
+    }
+
+    @Test
+    void balances_overflowLong() {
+        BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+        BigInteger huge = max.multiply(BigInteger.TEN);
+
+        Balances balances = new BalanceAccumulator()
+                .add(UNIT_1, max)
+                .add(UNIT_1, max)
+                .add(UNIT_1, BigInteger.ONE)
+                .add(UNIT_2, huge)
+                .add(UNIT_2, BigInteger.valueOf(-1))
+                .toBalances();
+
+        assertThat(balances.get(UNIT_1)).isEqualTo(max.add(max).add(BigInteger.ONE));
+        assertThat(balances.get(UNIT_2)).isEqualTo(huge.subtract(BigInteger.ONE));
+    }
+
+    @Test
+    void collector_parallelStream() {
+        List<Utxo> utxos = IntStream.range(0, 10000)
+                .mapToObj(i -> utxo(new Amount(LOVELACE, BigInteger.valueOf(i)), new Amount(UNIT_1, BigInteger.ONE)))
+                .collect(Collectors.toList());
+
+        Balances balances = utxos.parallelStream().collect(BalanceAccumulator.collector());
+
+        assertThat(balances.lovelace()).isEqualTo(BigInteger.valueOf(49995000));
+        assertThat(balances.get(UNIT_1)).isEqualTo(BigInteger.valueOf(10000));
+        assertThat(balances).isEqualTo(Balances.of(utxos));
+    }
+
+    private static Utxo utxo(Amount... amounts) {
+        return Utxo.builder()
+                .txHash("tx")
+                .amount(List.of(amounts))
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.exception.InsufficientBalanceException;
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionBody;
+import com.bloxbean.cardano.client.transaction.spec.TransactionInput;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FaucetUtxoPoolTest {
+    private static final String FAUCET = "addr_test1vzpwq95z3xyum8vqndgdd9mdnmafh3djcxnc6jemlgdmswcve6tkw";
+
+    @Test
+    void resync_skipsReservedAndInFlightUtxos() {
+        FixedUtxoSupplier backend = new FixedUtxoSupplier(utxo("tx0", 0), utxo("tx0", 1), utxo("tx0", 2));
+        FaucetUtxoPool pool = new FaucetUtxoPool(FAUCET, backend, Duration.ofSeconds(1));
+        assertThat(pool.available()).isEqualTo(3);
+
+        Result<String> result = pool.submit(utxoSupplier -> {
+            Utxo reserved = utxoSupplier.getAll(FAUCET).get(0);
+
+            //Another transaction times out while this one is being built
+            pool.resync();
+            assertThat(pool.available()).isEqualTo(2);
+
+            return transaction(reserved);
+        }, transaction -> Result.success("txA").withValue("txA"));
+
+        assertThat(result.isSuccessful()).isTrue();
+        //Input of txA is in flight until it is confirmed
+        pool.resync();
+        assertThat(pool.available()).isEqualTo(2);
+
+        pool.completed("txA");
+        pool.resync();
+        assertThat(pool.available()).isEqualTo(3);
+    }
+
+    @Test
+    void unusedReservationIsReleasedOnce() {
+        FixedUtxoSupplier backend = new FixedUtxoSupplier(utxo("tx0", 0));
+        FaucetUtxoPool pool = new FaucetUtxoPool(FAUCET, backend, Duration.ofSeconds(1));
+
+        pool.submit(utxoSupplier -> {
+            pool.resync();
+            return transaction();
+        }, transaction -> Result.error("rejected"));
+
+        assertThat(pool.available()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentTransactionsNeedingSeveralUtxosDontStallEachOther() throws Exception {
+        FixedUtxoSupplier backend = new FixedUtxoSupplier(utxo("tx0", 0), utxo("tx0", 1));
+        FaucetUtxoPool pool = new FaucetUtxoPool(FAUCET, backend, Duration.ofSeconds(5));
+        //Both transactions hold one utxo when they find out they need two
+        CountDownLatch bothReserved = new CountDownLatch(2);
+
+        CompletableFuture<Result<String>> txA = CompletableFuture.supplyAsync(() -> submitNeedingTwoUtxos(pool, bothReserved));
+        CompletableFuture<Result<String>> txB = CompletableFuture.supplyAsync(() -> submitNeedingTwoUtxos(pool, bothReserved));
+
+        assertThat(txA.get(3, TimeUnit.SECONDS).isSuccessful()).isFalse();
+        assertThat(txB.get(3, TimeUnit.SECONDS).isSuccessful()).isFalse();
+        assertThat(pool.available()).isEqualTo(2);
+    }
+
+    @Test
+    void otherBuildFailuresAreNotRetried() {
+        FixedUtxoSupplier backend = new FixedUtxoSupplier(utxo("tx0", 0), utxo("tx0", 1));
+        FaucetUtxoPool pool = new FaucetUtxoPool(FAUCET, backend, Duration.ofSeconds(1));
+
+        assertThatThrownBy(() -> pool.submit(utxoSupplier -> {
+            throw new IllegalStateException("Not enough collateral inputs");
+        }, transaction -> Result.success("txA").withValue("txA"))).hasMessageContaining("collateral");
+        assertThat(pool.available()).isEqualTo(2);
+    }
+
+    private static Result<String> submitNeedingTwoUtxos(FaucetUtxoPool pool, CountDownLatch bothReserved) {
+        return pool.submit(utxoSupplier -> {
+            List<Utxo> reserved = utxoSupplier.getAll(FAUCET);
+            if (reserved.size() < 2) {
+                bothReserved.countDown();
+                try {
+                    bothReserved.await(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException(new InsufficientBalanceException("Need two utxos"));
+            }
+            return transaction(reserved.toArray(new Utxo[0]));
+        }, transaction -> Result.error("rejected"));
+    }
+
+    private static Transaction transaction(Utxo... inputs) {
+        List<TransactionInput> txInputs = new ArrayList<>();
+        for (Utxo input : inputs) {
+            txInputs.add(new TransactionInput(input.getTxHash(), input.getOutputIndex()));
+        }
+        return Transaction.builder()
+                .body(TransactionBody.builder()
+                        .inputs(txInputs)
+                        .outputs(new ArrayList<>())
+                        .build())
+                .build();
+    }
+
+    private static Utxo utxo(String txHash, int index) {
+        return Utxo.builder()
+                .txHash(txHash)
+                .outputIndex(index)
+                .address(FAUCET)
+                .amount(List.of(new Amount(LOVELACE, BigInteger.valueOf(1000_000_000))))
+                .build();
+    }
+
+    static class FixedUtxoSupplier implements UtxoSupplier {
+        private final List<Utxo> utxos;
+
+        FixedUtxoSupplier(Utxo... utxos) {
+            this.utxos = List.of(utxos);
+        }
+
+        @Override
+        public List<Utxo> getPage(String address, Integer nrOfItems, Integer page, OrderEnum order) {
+            return page == null || page == 0 ? new ArrayList<>(utxos) : new ArrayList<>();
+        }
+
+        @Override
+        public List<Utxo> getAll(String address) {
+            return new ArrayList<>(utxos);
+        }
+
+        @Override
+        public Optional<Utxo> getTxOutput(String txHash, int outputIndex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.plutus.spec.BigIntPlutusData;
+import com.bloxbean.cardano.client.plutus.spec.PlutusData;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InlineDatumDecoderTest {
+
+    @Test
+    void decode_keepsOrderForParallelDecoding() {
+        InlineDatumDecoder decoder = new InlineDatumDecoder(1000);
+        List<Utxo> utxos = IntStream.range(0, 500)
+                .mapToObj(i -> utxo(BigIntPlutusData.of(i).serializeToHex()))
+                .collect(Collectors.toList());
+
+        List<PlutusData> datums = decoder.decode(utxos, datum -> true);
+
+        assertThat(datums).hasSize(500);
+        for (int i = 0; i < 500; i++) {
+            assertThat(((BigIntPlutusData) datums.get(i)).getValue()).isEqualTo(BigInteger.valueOf(i));
+        }
+    }
+
+    @Test
+    void decode_cachedByDatumCbor() {
+        InlineDatumDecoder decoder = new InlineDatumDecoder(1000);
+        String datumHex = BigIntPlutusData.of(42).serializeToHex();
+
+        PlutusData first = decoder.decode(datumHex);
+        PlutusData second = decoder.decode(datumHex);
+
+        assertThat(second).isSameAs(first);
+        assertThat(decoder.cacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    void decode_noCacheReturnsNewInstances() {
+        InlineDatumDecoder decoder = new InlineDatumDecoder(0);
+        String datumHex = BigIntPlutusData.of(42).serializeToHex();
+
+        PlutusData first = decoder.decode(datumHex);
+        PlutusData second = decoder.decode(datumHex);
+
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        assertThat(decoder.cacheSize()).isZero();
+    }
+
+    @Test
+    void decode_cacheIsBoundedUnderParallelDecoding() {
+        InlineDatumDecoder decoder = new InlineDatumDecoder(10);
+        List<Utxo> utxos = IntStream.range(0, 1000)
+                .mapToObj(i -> utxo(BigIntPlutusData.of(i % 200).serializeToHex()))
+                .collect(Collectors.toList());
+
+        List<PlutusData> datums = decoder.decode(utxos, datum -> true);
+
+        assertThat(datums).hasSize(1000);
+        assertThat(decoder.cacheSize()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void decode_cacheIsBounded() {
+        InlineDatumDecoder decoder = new InlineDatumDecoder(10);
+        IntStream.range(0, 100).forEach(i -> decoder.decode(BigIntPlutusData.of(i).serializeToHex()));
+
+        assertThat(decoder.cacheSize()).isEqualTo(10);
+    }
+
+    @Test
+    void decode_onlyMatchingDatums() {
+        InlineDatumDecoder decoder = new InlineDatumDecoder(1000);
+        String datum1 = BigIntPlutusData.of(1).serializeToHex();
+        String datum2 = BigIntPlutusData.of(2).serializeToHex();
+        List<Utxo> utxos = List.of(utxo(datum1), utxo(datum2), utxo(null));
+
+        List<PlutusData> datums = decoder.decode(utxos, datum2::equals);
+
+        assertThat(datums).containsExactly(BigIntPlutusData.of(2));
+        assertThat(decoder.cacheSize()).isEqualTo(1);
+    }
+
+    private static Utxo utxo(String inlineDatum) {
+        return Utxo.builder()
+                .txHash("tx")
+                .inlineDatum(inlineDatum)
+                .build();
+    }
+}
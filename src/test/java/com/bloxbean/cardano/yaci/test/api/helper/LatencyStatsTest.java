@@ -0,0 +1,44 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyStatsTest {
+
+    @Test
+    void percentiles() {
+        long[] nanos = LongStream.rangeClosed(1, 100)
+                .map(i -> Duration.ofMillis(101 - i).toNanos())
+                .toArray();
+
+        LatencyStats stats = LatencyStats.of(nanos);
+
+        assertThat(stats.getCount()).isEqualTo(100);
+        assertThat(stats.getMin()).isEqualTo(Duration.ofMillis(1));
+        assertThat(stats.getP50()).isEqualTo(Duration.ofMillis(50));
+        assertThat(stats.getP90()).isEqualTo(Duration.ofMillis(90));
+        assertThat(stats.getP99()).isEqualTo(Duration.ofMillis(99));
+        assertThat(stats.getMax()).isEqualTo(Duration.ofMillis(100));
+        assertThat(stats.getMean()).isEqualTo(Duration.ofNanos(Duration.ofMillis(101).toNanos() / 2));
+    }
+
+    @Test
+    void singleSample() {
+        LatencyStats stats = LatencyStats.of(new long[]{42});
+
+        assertThat(stats.getP50()).isEqualTo(Duration.ofNanos(42));
+        assertThat(stats.getP99()).isEqualTo(Duration.ofNanos(42));
+    }
+
+    @Test
+    void noSamples() {
+        LatencyStats stats = LatencyStats.of(new long[0]);
+
+        assertThat(stats.getCount()).isZero();
+        assertThat(stats.getP99()).isEqualTo(Duration.ZERO);
+    }
+}
@@ -0,0 +1,77 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.account.Account;
+import com.bloxbean.cardano.client.common.model.Networks;
+import com.bloxbean.cardano.yaci.test.Funding;
+import com.bloxbean.cardano.yaci.test.YaciCardanoContainer;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TestAccountPoolTest {
+    private final Map<Integer, Account> accounts = new ConcurrentHashMap<>();
+
+    private Account account(int index) {
+        return accounts.computeIfAbsent(index,
+                i -> new Account(Networks.testnet(), YaciCardanoContainer.DEFAULT_TEST_ACCOUNT_MNEMONIC, i));
+    }
+
+    @Test
+    void fundedAccountsHandedOutFirst() {
+        List<List<Funding>> batches = new ArrayList<>();
+        TestAccountPool pool = new TestAccountPool(List.of(account(0), account(1)), this::account, 2, 3, 100,
+                batches::add);
+
+        assertThat(pool.acquire()).isSameAs(account(0));
+        assertThat(pool.acquire()).isSameAs(account(1));
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    void nextBatchFundedWhenEmpty() {
+        List<List<Funding>> batches = new ArrayList<>();
+        TestAccountPool pool = new TestAccountPool(List.of(), this::account, 2, 3, 100, batches::add);
+
+        Account first = pool.acquire();
+
+        assertThat(first).isSameAs(account(2));
+        assertThat(pool.available()).isEqualTo(2);
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactly(
+                new Funding(account(2).baseAddress(), 100),
+                new Funding(account(3).baseAddress(), 100),
+                new Funding(account(4).baseAddress(), 100));
+
+        pool.acquire();
+        pool.acquire();
+        assertThat(pool.acquire()).isSameAs(account(5));
+        assertThat(batches).hasSize(2);
+    }
+
+    @Test
+    void concurrentAcquire_noAccountHandedOutTwice() throws Exception {
+        List<List<Funding>> batches = Collections.synchronizedList(new ArrayList<>());
+        TestAccountPool pool = new TestAccountPool(List.of(), this::account, 0, 4, 100, batches::add);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Account>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(executor.submit(pool::acquire));
+            }
+
+            Set<String> addresses = new HashSet<>();
+            for (Future<Account> future : futures) {
+                addresses.add(future.get(30, TimeUnit.SECONDS).baseAddress());
+            }
+
+            assertThat(addresses).hasSize(20);
+            assertThat(batches).hasSize(5);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
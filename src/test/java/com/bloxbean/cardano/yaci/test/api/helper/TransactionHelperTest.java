@@ -24,6 +24,9 @@ import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.bloxbean.cardano.client.common.ADAConversionUtil.adaToLovelace;
 import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
@@ -220,6 +223,52 @@ class TransactionHelperTest {
         assertMe(utxo.get()).containsReferenceScript(plutusScript);
     }
 
+    @Test
+    @Order(8)
+    void transferAda_async() {
+        List<String> receivers = List.of(
+                new Account(Networks.testnet()).baseAddress(),
+                new Account(Networks.testnet()).baseAddress(),
+                new Account(Networks.testnet()).baseAddress());
+
+        List<CompletableFuture<String>> futures = receivers.stream()
+                .map(receiver -> testHelper.transferAdaAsync(receiver, 5))
+                .collect(Collectors.toList());
+        CompletableFuture<Policy> policyFuture = testHelper.mintTokenAsync(receivers.get(0), "AsyncToken", BigInteger.valueOf(100));
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        Policy policy = policyFuture.join();
+
+        receivers.forEach(receiver -> assertMe(cardanoContainer).hasLovelaceBalance(receiver, adaToLovelace(5)));
+        assertMe(cardanoContainer).hasAssetBalance(receivers.get(0), policy.getPolicyId(), "AsyncToken", 100);
+    }
+
+    @Test
+    @Order(9)
+    void transferAda_toMultipleReceivers() {
+        List<Funding> fundings = IntStream.range(0, 200)
+                .mapToObj(i -> new Funding(new Account(Networks.testnet()).baseAddress(), 2))
+                .collect(Collectors.toList());
+
+        List<String> txHashes = testHelper.transferAda(fundings);
+
+        Assertions.assertFalse(txHashes.isEmpty());
+        fundings.forEach(funding -> assertMe(cardanoContainer).hasLovelaceBalance(funding.getAddress(), adaToLovelace(2)));
+    }
+
+    @Test
+    @Order(10)
+    void transferAda_concurrent() {
+        List<String> receivers = IntStream.range(0, 10)
+                .mapToObj(i -> new Account(Networks.testnet()).baseAddress())
+                .collect(Collectors.toList());
+
+        receivers.parallelStream()
+                .forEach(receiver -> Assertions.assertTrue(testHelper.transferAda(receiver, 3).isPresent()));
+
+        receivers.forEach(receiver -> assertMe(cardanoContainer).hasLovelaceBalance(receiver, adaToLovelace(3)));
+    }
+
     @AfterAll
     static void tearDown() {
         cardanoContainer.stop();
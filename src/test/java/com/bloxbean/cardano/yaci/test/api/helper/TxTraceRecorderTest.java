@@ -0,0 +1,100 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.api.ProtocolParamsSupplier;
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.ProtocolParams;
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionBody;
+import com.bloxbean.cardano.yaci.test.backend.ChainTip;
+import com.bloxbean.cardano.yaci.test.backend.TxConfirmation;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TxTraceRecorderTest {
+
+    @Test
+    void phaseTimings() {
+        TxTraceRecorder recorder = new TxTraceRecorder("transferAda");
+        ProtocolParamsSupplier protocolParamsSupplier = recorder.protocolParamsSupplier(() -> {
+            sleep(20);
+            return new ProtocolParams();
+        });
+        UtxoSupplier utxoSupplier = recorder.utxoSupplier(new SlowUtxoSupplier());
+        Transaction transaction = Transaction.builder()
+                .body(TransactionBody.builder().fee(BigInteger.valueOf(170000)).build())
+                .build();
+
+        Transaction built = recorder.build(() -> {
+            utxoSupplier.getAll("addr_test1");
+            protocolParamsSupplier.getProtocolParams();
+            sleep(10);
+            return transaction;
+        });
+        recorder.submit(built, tx -> Result.success("ok").withValue("txHash"));
+        TxTrace trace = recorder.confirmed(TxConfirmation.builder()
+                .txHash("txHash")
+                .slot(100L)
+                .blockNumber(10L)
+                .seenAtTip(ChainTip.builder().slot(120).blockNumber(11).build())
+                .build());
+
+        assertThat(trace.getOperation()).isEqualTo("transferAda");
+        assertThat(trace.getTxHash()).isEqualTo("txHash");
+        assertThat(trace.getUtxoSelectionNanos()).isGreaterThanOrEqualTo(Duration.ofMillis(30).toNanos());
+        assertThat(trace.getProtocolParamsNanos()).isGreaterThanOrEqualTo(Duration.ofMillis(20).toNanos());
+        assertThat(trace.getBuildAndSignNanos()).isGreaterThanOrEqualTo(Duration.ofMillis(10).toNanos());
+        assertThat(trace.getConfirmationNanos()).isNotNull();
+        assertThat(trace.getFee()).isEqualTo(170000);
+        assertThat(trace.getSlot()).isEqualTo(100);
+        assertThat(trace.getBlockNumber()).isEqualTo(10);
+        assertThat(trace.isConfirmed()).isTrue();
+    }
+
+    @Test
+    void failedSubmission() {
+        TxTraceRecorder recorder = new TxTraceRecorder("mintToken");
+
+        TxTrace trace = recorder.failed("rejected");
+
+        assertThat(trace.getError()).isEqualTo("rejected");
+        assertThat(trace.getTxHash()).isNull();
+        assertThat(trace.getConfirmationNanos()).isNull();
+        assertThat(trace.isConfirmed()).isFalse();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class SlowUtxoSupplier implements UtxoSupplier {
+        @Override
+        public List<Utxo> getPage(String address, Integer nrOfItems, Integer page, OrderEnum order) {
+            sleep(30);
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<Utxo> getAll(String address) {
+            return getPage(address, 100, 0, OrderEnum.asc);
+        }
+
+        @Override
+        public Optional<Utxo> getTxOutput(String txHash, int outputIndex) {
+            return Optional.empty();
+        }
+    }
+}
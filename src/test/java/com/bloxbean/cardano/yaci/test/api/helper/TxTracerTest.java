@@ -0,0 +1,51 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TxTracerTest {
+
+    @Test
+    void writeJsonLines() throws Exception {
+        TxTracer tracer = new TxTracer();
+        tracer.add(trace("tx1", null));
+        tracer.add(trace("tx2", "rejected"));
+
+        StringWriter writer = new StringWriter();
+        tracer.writeJsonLines(writer);
+
+        String[] lines = writer.toString().split("\n");
+        assertThat(lines).hasSize(2);
+
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertThat(first.get("txHash").asText()).isEqualTo("tx1");
+        assertThat(first.get("submitNanos").asLong()).isEqualTo(4);
+        assertThat(first.get("totalNanos").asLong()).isEqualTo(15);
+        assertThat(first.has("error")).isFalse();
+
+        JsonNode second = new ObjectMapper().readTree(lines[1]);
+        assertThat(second.get("error").asText()).isEqualTo("rejected");
+    }
+
+    @Test
+    void oldestTracesDropped() {
+        TxTracer tracer = new TxTracer();
+        tracer.setMaxTraces(2);
+        tracer.add(trace("tx1", null));
+        tracer.add(trace("tx2", null));
+        tracer.add(trace("tx3", null));
+
+        assertThat(tracer.getTraces()).extracting(TxTrace::getTxHash).containsExactly("tx2", "tx3");
+        assertThat(tracer.getTrace("tx1")).isEmpty();
+        assertThat(tracer.getTrace("tx3")).isPresent();
+    }
+
+    private static TxTrace trace(String txHash, String error) {
+        return new TxTrace("transferAda", txHash, 0, 1, 2, 3, 4, 5L, 300, 170000L, 100L, 10L, error);
+    }
+}
@@ -0,0 +1,85 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UtxoPageIteratorTest {
+
+    @Test
+    void stream_returnsAllPages() {
+        PagedSupplier supplier = new PagedSupplier(25);
+
+        try (Stream<Utxo> utxos = new UtxoPageIterator(supplier, "addr1", 10, OrderEnum.asc).stream()) {
+            List<Integer> indexes = utxos.map(Utxo::getOutputIndex).collect(Collectors.toList());
+            assertThat(indexes).containsExactlyElementsOf(IntStream.range(0, 25).boxed().collect(Collectors.toList()));
+        }
+
+        //Page 2 is short, so page 3 is never requested
+        assertThat(supplier.requestedPages).containsExactlyInAnyOrder(0, 1, 2);
+    }
+
+    @Test
+    void stream_fullLastPage() {
+        PagedSupplier supplier = new PagedSupplier(20);
+
+        try (Stream<Utxo> utxos = new UtxoPageIterator(supplier, "addr1", 10, OrderEnum.asc).stream()) {
+            assertThat(utxos.count()).isEqualTo(20);
+        }
+    }
+
+    @Test
+    void stream_emptyAddress() {
+        try (Stream<Utxo> utxos = new UtxoPageIterator(new PagedSupplier(0), "addr1").stream()) {
+            assertThat(utxos.count()).isZero();
+        }
+    }
+
+    @Test
+    void stream_pageErrorIsRethrown() {
+        UtxoSupplier supplier = new PagedSupplier(0) {
+            @Override
+            public List<Utxo> getPage(String address, Integer nrOfItems, Integer page, OrderEnum order) {
+                throw new IllegalStateException("backend down");
+            }
+        };
+
+        try (Stream<Utxo> utxos = new UtxoPageIterator(supplier, "addr1").stream()) {
+            assertThrows(IllegalStateException.class, utxos::count);
+        }
+    }
+
+    static class PagedSupplier implements UtxoSupplier {
+        private final int total;
+        private final Set<Integer> requestedPages = new CopyOnWriteArraySet<>();
+
+        PagedSupplier(int total) {
+            this.total = total;
+        }
+
+        @Override
+        public List<Utxo> getPage(String address, Integer nrOfItems, Integer page, OrderEnum order) {
+            requestedPages.add(page);
+            return IntStream.range(page * nrOfItems, Math.min(total, (page + 1) * nrOfItems))
+                    .mapToObj(i -> Utxo.builder().address(address).txHash("tx").outputIndex(i).build())
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public Optional<Utxo> getTxOutput(String txHash, int outputIndex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.bloxbean.cardano.yaci.test.api.helper;
+
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.yaci.test.YaciCardanoContainer;
+import com.bloxbean.cardano.yaci.test.backend.CachingUtxoSupplier;
+import com.bloxbean.cardano.yaci.test.backend.ChainTip;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class YaciTestHelperTest {
+
+    @Test
+    void lovelaceBalance_servedFromCacheWithinBlock() {
+        PagedBackend backend = new PagedBackend(3);
+        CachingUtxoSupplier cache = new CachingUtxoSupplier(backend, () -> ChainTip.builder().slot(1).build(), Duration.ZERO);
+        YaciTestHelper testHelper = new YaciTestHelper(new CachedContainer(cache));
+
+        assertThat(testHelper.lovelaceBalance("addr1")).contains(BigInteger.valueOf(3_000_000));
+        assertThat(testHelper.lovelaceBalance("addr1")).contains(BigInteger.valueOf(3_000_000));
+
+        assertThat(backend.calls.get()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void balances_pagesBeyondLimitAreNotCached() {
+        int pageSize = UtxoPageIterator.DEFAULT_PAGE_SIZE;
+        PagedBackend backend = new PagedBackend((YaciTestHelper.MAX_CACHED_PAGES + 1) * pageSize);
+        CachingUtxoSupplier cache = new CachingUtxoSupplier(backend, () -> ChainTip.builder().slot(1).build(), Duration.ZERO);
+        YaciTestHelper testHelper = new YaciTestHelper(new CachedContainer(cache));
+
+        testHelper.balances("addr1");
+        //Full pages up to MAX_CACHED_PAGES, one more full page and an empty last page
+        int firstCalls = YaciTestHelper.MAX_CACHED_PAGES + 2;
+        assertThat(backend.calls.get()).isEqualTo(firstCalls);
+
+        testHelper.balances("addr1");
+        assertThat(backend.calls.get()).isEqualTo(firstCalls + 2);
+        assertThat(cache.getHitCount()).isEqualTo(YaciTestHelper.MAX_CACHED_PAGES);
+    }
+
+    static class CachedContainer extends YaciCardanoContainer {
+        private final CachingUtxoSupplier cache;
+
+        CachedContainer(CachingUtxoSupplier cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public UtxoSupplier getUtxoSupplier() {
+            return cache;
+        }
+
+        @Override
+        public UtxoSupplier getUncachedUtxoSupplier() {
+            return cache.getDelegate();
+        }
+
+        @Override
+        public CachingUtxoSupplier getUtxoCache() {
+            return cache;
+        }
+    }
+
+    static class PagedBackend implements UtxoSupplier {
+        private final List<Utxo> utxos;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        PagedBackend(int count) {
+            this.utxos = IntStream.range(0, count)
+                    .mapToObj(i -> Utxo.builder()
+                            .address("addr1")
+                            .txHash("tx" + i)
+                            .outputIndex(0)
+                            .amount(List.of(new Amount(LOVELACE, BigInteger.valueOf(1_000_000))))
+                            .build())
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public List<Utxo> getPage(String address, Integer nrOfItems, Integer page, OrderEnum order) {
+            calls.incrementAndGet();
+            int from = Math.min(page * nrOfItems, utxos.size());
+            return List.copyOf(utxos.subList(from, Math.min(from + nrOfItems, utxos.size())));
+        }
+
+        @Override
+        public List<Utxo> getAll(String address) {
+            calls.incrementAndGet();
+            return List.copyOf(utxos);
+        }
+
+        @Override
+        public Optional<Utxo> getTxOutput(String txHash, int outputIndex) {
+            return Optional.empty();
+        }
+    }
+}
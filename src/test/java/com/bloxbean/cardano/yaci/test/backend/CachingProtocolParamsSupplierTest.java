@@ -0,0 +1,61 @@
+package com.bloxbean.cardano.yaci.test.backend;
+
+import com.bloxbean.cardano.client.api.model.ProtocolParams;
+import com.bloxbean.cardano.client.backend.api.EpochService;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingProtocolParamsSupplierTest {
+
+    @Test
+    void getProtocolParams_fetchedOncePerEpoch() {
+        AtomicInteger epoch = new AtomicInteger(1);
+        AtomicInteger fetches = new AtomicInteger();
+        CachingProtocolParamsSupplier supplier = new CachingProtocolParamsSupplier(
+                () -> {
+                    fetches.incrementAndGet();
+                    return new ProtocolParams();
+                },
+                () -> ChainTip.builder().slot(epoch.get() * 100L).epoch(epoch.get()).build(),
+                unusedEpochService(), Duration.ZERO);
+
+        ProtocolParams params = supplier.getProtocolParams();
+        assertThat(supplier.getProtocolParams()).isSameAs(params);
+        assertThat(fetches.get()).isEqualTo(1);
+
+        epoch.incrementAndGet();
+        assertThat(supplier.getProtocolParams()).isNotSameAs(params);
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    @Test
+    void getProtocolParams_notCachedWhenEpochUnknown() {
+        AtomicInteger fetches = new AtomicInteger();
+        CachingProtocolParamsSupplier supplier = new CachingProtocolParamsSupplier(
+                () -> {
+                    fetches.incrementAndGet();
+                    return new ProtocolParams();
+                },
+                () -> {
+                    throw new IllegalStateException("tip not available");
+                },
+                unusedEpochService(), Duration.ZERO);
+
+        supplier.getProtocolParams();
+        supplier.getProtocolParams();
+
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    private static EpochService unusedEpochService() {
+        return (EpochService) Proxy.newProxyInstance(EpochService.class.getClassLoader(), new Class[]{EpochService.class},
+                (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,215 @@
+package com.bloxbean.cardano.yaci.test.backend;
+
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionBody;
+import com.bloxbean.cardano.client.transaction.spec.TransactionInput;
+import com.bloxbean.cardano.client.transaction.spec.TransactionOutput;
+import com.bloxbean.cardano.client.transaction.spec.Value;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingUtxoSupplierTest {
+
+    @Test
+    void getAll_servedFromCacheUntilTipChanges() {
+        AtomicLong slot = new AtomicLong(10);
+        CountingUtxoSupplier backend = new CountingUtxoSupplier();
+        CachingUtxoSupplier supplier = new CachingUtxoSupplier(backend,
+                () -> ChainTip.builder().slot(slot.get()).build(), Duration.ZERO);
+
+        assertThat(supplier.getAll("addr1")).hasSize(1);
+        assertThat(supplier.getAll("addr1")).hasSize(1);
+        assertThat(backend.calls.get()).isEqualTo(1);
+        assertThat(supplier.getHitCount()).isEqualTo(1);
+        assertThat(supplier.getMissCount()).isEqualTo(1);
+
+        slot.incrementAndGet();
+        supplier.getAll("addr1");
+        assertThat(backend.calls.get()).isEqualTo(2);
+        assertThat(supplier.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getPage_cachedPerPage() {
+        CountingUtxoSupplier backend = new CountingUtxoSupplier();
+        CachingUtxoSupplier supplier = new CachingUtxoSupplier(backend,
+                () -> ChainTip.builder().slot(1).build(), Duration.ZERO);
+
+        supplier.getPage("addr1", 10, 0, OrderEnum.asc);
+        supplier.getPage("addr1", 10, 1, OrderEnum.asc);
+        supplier.getPage("addr1", 10, 0, OrderEnum.asc);
+
+        assertThat(backend.calls.get()).isEqualTo(2);
+        assertThat(supplier.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void confirmationListener_invalidatesCache() {
+        CountingUtxoSupplier backend = new CountingUtxoSupplier();
+        CachingUtxoSupplier supplier = new CachingUtxoSupplier(backend,
+                () -> ChainTip.builder().slot(1).build(), Duration.ZERO);
+
+        supplier.getAll("addr1");
+        supplier.asConfirmationListener().txTracked("tx1");
+        supplier.getAll("addr1");
+
+        assertThat(backend.calls.get()).isEqualTo(2);
+        assertThat(supplier.getHitCount()).isZero();
+    }
+
+    @Test
+    void registeredTx_invalidatesOnlyTouchedAddresses() {
+        CountingUtxoSupplier backend = new CountingUtxoSupplier();
+        CachingUtxoSupplier supplier = new CachingUtxoSupplier(backend,
+                () -> ChainTip.builder().slot(1).build(), Duration.ZERO);
+        supplier.getAll("sender");
+        supplier.getAll("receiver");
+        supplier.getAll("other");
+
+        //Spends the sender's utxo and pays to the receiver
+        supplier.register("tx1", transaction("tx-sender-0", 0, "receiver"));
+        supplier.asConfirmationListener().txTracked("tx1");
+
+        supplier.getAll("sender");
+        supplier.getAll("receiver");
+        supplier.getAll("other");
+        assertThat(backend.calls.get()).isEqualTo(5);
+        assertThat(supplier.getHitCount()).isEqualTo(1);
+
+        supplier.asConfirmationListener().txConfirmed(TxConfirmation.builder().txHash("tx1").build());
+        supplier.getAll("other");
+        assertThat(supplier.getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidate_dropsResultLoadedBeforeInvalidation() {
+        CachingUtxoSupplier[] supplier = new CachingUtxoSupplier[1];
+        CountingUtxoSupplier backend = new CountingUtxoSupplier() {
+            @Override
+            public List<Utxo> getAll(String address) {
+                List<Utxo> utxos = super.getAll(address);
+                //Address changes while its utxos are loaded
+                supplier[0].invalidate(address);
+                return utxos;
+            }
+        };
+        supplier[0] = new CachingUtxoSupplier(backend, () -> ChainTip.builder().slot(1).build(), Duration.ZERO);
+
+        supplier[0].getAll("addr1");
+        supplier[0].getAll("addr1");
+
+        assertThat(backend.calls.get()).isEqualTo(2);
+        assertThat(supplier[0].getHitCount()).isZero();
+    }
+
+    @Test
+    void tipCheck_sharedByConcurrentCallersAndNotBlockingInvalidation() throws Exception {
+        AtomicInteger tipCalls = new AtomicInteger();
+        CountDownLatch tipRequested = new CountDownLatch(1);
+        CountDownLatch tipReturned = new CountDownLatch(1);
+        CountingUtxoSupplier backend = new CountingUtxoSupplier();
+        CachingUtxoSupplier supplier = new CachingUtxoSupplier(backend, () -> {
+            tipCalls.incrementAndGet();
+            tipRequested.countDown();
+            try {
+                tipReturned.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ChainTip.builder().slot(1).build();
+        }, Duration.ofMinutes(1));
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            List<CompletableFuture<List<Utxo>>> calls = new ArrayList<>();
+            calls.add(CompletableFuture.supplyAsync(() -> supplier.getAll("addr1"), executor));
+            assertThat(tipRequested.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 3; i++) {
+                calls.add(CompletableFuture.supplyAsync(() -> supplier.getAll("addr1"), executor));
+            }
+
+            //The tip request doesn't hold the cache lock
+            CompletableFuture.runAsync(() -> supplier.invalidate("addr2"), executor).get(1, TimeUnit.SECONDS);
+
+            tipReturned.countDown();
+            for (CompletableFuture<List<Utxo>> call : calls) {
+                assertThat(call.get(5, TimeUnit.SECONDS)).hasSize(1);
+            }
+            assertThat(tipCalls.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void cachedList_notAffectedByCallerChanges() {
+        CachingUtxoSupplier supplier = new CachingUtxoSupplier(new CountingUtxoSupplier(),
+                () -> ChainTip.builder().slot(1).build(), Duration.ZERO);
+
+        supplier.getAll("addr1").clear();
+
+        assertThat(supplier.getAll("addr1")).hasSize(1);
+    }
+
+    @Test
+    void tipError_disablesCache() {
+        CountingUtxoSupplier backend = new CountingUtxoSupplier();
+        CachingUtxoSupplier supplier = new CachingUtxoSupplier(backend, () -> {
+            throw new IllegalStateException("tip not available");
+        }, Duration.ZERO);
+
+        supplier.getAll("addr1");
+        supplier.getAll("addr1");
+
+        assertThat(backend.calls.get()).isEqualTo(2);
+    }
+
+    private static Transaction transaction(String inputTxHash, int inputIndex, String receiver) {
+        return Transaction.builder()
+                .body(TransactionBody.builder()
+                        .inputs(List.of(new TransactionInput(inputTxHash, inputIndex)))
+                        .outputs(List.of(TransactionOutput.builder()
+                                .address(receiver)
+                                .value(Value.builder().coin(BigInteger.valueOf(1_000_000)).build())
+                                .build()))
+                        .build())
+                .build();
+    }
+
+    static class CountingUtxoSupplier implements UtxoSupplier {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public List<Utxo> getPage(String address, Integer nrOfItems, Integer page, OrderEnum order) {
+            calls.incrementAndGet();
+            return new ArrayList<>(List.of(Utxo.builder().address(address).txHash("tx-" + address + "-" + page).outputIndex(0).build()));
+        }
+
+        @Override
+        public List<Utxo> getAll(String address) {
+            return getPage(address, 100, 0, OrderEnum.asc);
+        }
+
+        @Override
+        public Optional<Utxo> getTxOutput(String txHash, int outputIndex) {
+            return Optional.empty();
+        }
+    }
+}
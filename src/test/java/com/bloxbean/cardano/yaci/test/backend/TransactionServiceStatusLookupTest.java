@@ -0,0 +1,58 @@
+package com.bloxbean.cardano.yaci.test.backend;
+
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.backend.api.TransactionService;
+import com.bloxbean.cardano.client.backend.model.TransactionContent;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionServiceStatusLookupTest {
+
+    @Test
+    void findConfirmations_returnsBlockOfConfirmedTxs() {
+        TxStatusLookup lookup = TxStatusLookup.of(transactionService(new AtomicInteger(), new AtomicInteger(), 0));
+
+        Map<String, TxConfirmation> confirmations = lookup.findConfirmations(List.of("tx1", "tx2", "missing"), -1);
+
+        assertThat(confirmations).containsOnlyKeys("tx1", "tx2");
+        TxConfirmation confirmation = confirmations.get("tx1");
+        assertThat(confirmation.getSlot()).isEqualTo(100);
+        assertThat(confirmation.getBlockNumber()).isEqualTo(10);
+        assertThat(confirmation.getBlockHash()).isEqualTo("block-tx1");
+        assertThat(lookup.findConfirmed(List.of("tx1", "missing"))).containsExactly("tx1");
+    }
+
+    private static TransactionService transactionService(AtomicInteger running, AtomicInteger maxRunning,
+                                                         long delayMillis) {
+        return (TransactionService) Proxy.newProxyInstance(TransactionService.class.getClassLoader(),
+                new Class[]{TransactionService.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("getTransaction"))
+                        throw new UnsupportedOperationException(method.getName());
+
+                    String txHash = (String) args[0];
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(delayMillis);
+                    } finally {
+                        running.decrementAndGet();
+                    }
+
+                    if (txHash.equals("missing"))
+                        throw new IllegalStateException("Not found");
+
+                    return Result.success("ok").withValue(TransactionContent.builder()
+                            .hash(txHash)
+                            .slot(100L)
+                            .blockHeight(10L)
+                            .block("block-" + txHash)
+                            .build());
+                });
+    }
+}
@@ -0,0 +1,83 @@
+package com.bloxbean.cardano.yaci.test.backend;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TxConfirmationTrackerTest {
+
+    @Test
+    void track_completesWhenTxFoundInNewBlock() {
+        AtomicLong slot = new AtomicLong(10);
+        Set<String> onChain = new CopyOnWriteArraySet<>();
+
+        try (TxConfirmationTracker tracker = new TxConfirmationTracker(
+                () -> ChainTip.builder().slot(slot.get()).blockNumber(slot.get()).build(),
+                txHashes -> txHashes.stream().filter(onChain::contains).collect(Collectors.toSet()),
+                Duration.ofMillis(10), Duration.ofSeconds(5))) {
+
+            CompletableFuture<TxConfirmation> future = tracker.track("tx1");
+            onChain.add("tx1");
+            slot.incrementAndGet();
+
+            TxConfirmation confirmation = future.join();
+            assertThat(confirmation.getTxHash()).isEqualTo("tx1");
+            assertThat(confirmation.getSeenAtTip().getSlot()).isEqualTo(11);
+            assertThat(tracker.getPendingCount()).isZero();
+        }
+    }
+
+    @Test
+    void track_keepsBlockFromLookup() {
+        AtomicLong slot = new AtomicLong(10);
+        TxStatusLookup lookup = new TxStatusLookup() {
+            @Override
+            public Set<String> findConfirmed(Collection<String> txHashes) {
+                return Set.copyOf(txHashes);
+            }
+
+            @Override
+            public Map<String, TxConfirmation> findConfirmations(Collection<String> txHashes, long trackedAfterSlot) {
+                return txHashes.stream().collect(Collectors.toMap(txHash -> txHash, txHash -> TxConfirmation.builder()
+                        .txHash(txHash).slot(8L).blockNumber(4L).blockHash("block4").build()));
+            }
+        };
+
+        try (TxConfirmationTracker tracker = new TxConfirmationTracker(
+                () -> ChainTip.builder().slot(slot.get()).blockNumber(5).build(),
+                lookup, Duration.ofMillis(10), Duration.ofSeconds(5))) {
+
+            TxConfirmation confirmation = tracker.track("tx1").join();
+            assertThat(confirmation.getSlot()).isEqualTo(8);
+            assertThat(confirmation.getBlockNumber()).isEqualTo(4);
+            assertThat(confirmation.getBlockHash()).isEqualTo("block4");
+            assertThat(confirmation.getSeenAtTip().getSlot()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    void track_failsAfterTimeout() {
+        try (TxConfirmationTracker tracker = new TxConfirmationTracker(
+                () -> ChainTip.builder().slot(1).build(),
+                txHashes -> Set.of(),
+                Duration.ofMillis(10), Duration.ofMillis(100))) {
+
+            CompletableFuture<TxConfirmation> future = tracker.track("tx1");
+
+            CompletionException exception = assertThrows(CompletionException.class, future::join);
+            assertThat(exception.getCause()).isInstanceOf(TimeoutException.class);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.bloxbean.cardano.yaci.test.backend.metrics;
+
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.yaci.test.backend.ChainTip;
+import com.bloxbean.cardano.yaci.test.backend.ChainTipSupplier;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BackendMetricsTest {
+
+    @Test
+    void recordsCallsPayloadAndErrors() throws Exception {
+        BackendMetrics metrics = new BackendMetrics();
+        TestService service = metrics.instrument(TestService.class, new TestServiceImpl());
+
+        service.submit(new byte[100]);
+        service.submit(new byte[50]);
+        service.find("missing");
+        assertThatThrownBy(service::fail).isInstanceOf(IllegalStateException.class);
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        EndpointStats submit = snapshot.getEndpoint("TestService.submit").orElseThrow();
+        assertThat(submit.getCalls()).isEqualTo(2);
+        assertThat(submit.getErrors()).isZero();
+        assertThat(submit.getRequestBytes()).isEqualTo(150);
+        assertThat(submit.getResponseSize()).isEqualTo(6);
+
+        assertThat(snapshot.getEndpoint("TestService.find").orElseThrow().getErrorRate()).isEqualTo(1.0);
+        assertThat(snapshot.getEndpoint("TestService.fail").orElseThrow().getErrors()).isEqualTo(1);
+        assertThat(snapshot.getTotalCalls()).isEqualTo(4);
+    }
+
+    @Test
+    void servicesReturnedByServiceAreInstrumented() throws Exception {
+        BackendMetrics metrics = new BackendMetrics();
+        TestService service = metrics.instrument(TestService.class, new TestServiceImpl());
+
+        assertThat(service.getOtherService()).isSameAs(service.getOtherService());
+        service.getOtherService().find("key");
+
+        assertThat(metrics.snapshot().getEndpoint("TestService.find")).isPresent();
+        assertThat(metrics.snapshot().getTotalCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void closeIsForwardedAndNotRecorded() throws Exception {
+        BackendMetrics metrics = new BackendMetrics();
+        TestServiceImpl target = new TestServiceImpl();
+        TestService service = metrics.instrument(TestService.class, target);
+
+        assertThat(service).isInstanceOf(AutoCloseable.class);
+        ((AutoCloseable) service).close();
+
+        assertThat(target.closed).isTrue();
+        assertThat(metrics.snapshot().getTotalCalls()).isZero();
+    }
+
+    @Test
+    void chainTipSupplierIsRecorded() {
+        BackendMetrics metrics = new BackendMetrics();
+        AtomicInteger calls = new AtomicInteger();
+        ChainTipSupplier tipSupplier = metrics.instrument(ChainTipSupplier.class, () -> {
+            if (calls.incrementAndGet() > 2)
+                throw new IllegalStateException("No tip");
+            return ChainTip.builder().slot(calls.get()).build();
+        });
+
+        assertThat(tipSupplier.getTip().getSlot()).isEqualTo(1);
+        tipSupplier.getTip();
+        assertThatThrownBy(tipSupplier::getTip).isInstanceOf(IllegalStateException.class);
+
+        EndpointStats tip = metrics.snapshot().getEndpoint("ChainTipSupplier.getTip").orElseThrow();
+        assertThat(tip.getCalls()).isEqualTo(3);
+        assertThat(tip.getErrors()).isEqualTo(1);
+    }
+
+    @Test
+    void percentileFromHistogram() {
+        long[] histogram = new long[EndpointStats.BUCKET_BOUNDS_MILLIS.length + 1];
+        histogram[0] = 90; //<= 1 ms
+        histogram[4] = 10; //<= 20 ms
+        EndpointStats stats = new EndpointStats("endpoint", 100, 0, Duration.ofMillis(500), Duration.ofMillis(15),
+                0, 0, histogram);
+
+        assertThat(stats.percentile(50)).isEqualTo(Duration.ofMillis(1));
+        assertThat(stats.percentile(90)).isEqualTo(Duration.ofMillis(1));
+        //Bucket bound is capped at max time
+        assertThat(stats.percentile(99)).isEqualTo(Duration.ofMillis(15));
+        assertThat(stats.getMeanTime()).isEqualTo(Duration.ofMillis(5));
+    }
+
+    public interface TestService {
+        Result<String> submit(byte[] payload) throws Exception;
+
+        Result<List<String>> find(String key) throws Exception;
+
+        String fail();
+
+        TestService getOtherService();
+    }
+
+    static class TestServiceImpl implements TestService, AutoCloseable {
+        private boolean closed;
+
+        @Override
+        public Result<String> submit(byte[] payload) {
+            return Result.success("ok").withValue("txHash");
+        }
+
+        @Override
+        public Result<List<String>> find(String key) {
+            return Result.error("not found");
+        }
+
+        @Override
+        public String fail() {
+            throw new IllegalStateException("failed");
+        }
+
+        @Override
+        public TestService getOtherService() {
+            return new TestServiceImpl();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
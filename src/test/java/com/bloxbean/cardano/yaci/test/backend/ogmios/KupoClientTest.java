@@ -0,0 +1,121 @@
+package com.bloxbean.cardano.yaci.test.backend.ogmios;
+
+import com.bloxbean.cardano.yaci.test.backend.ogmios.http.MatchesApi;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KupoClientTest {
+
+    @Test
+    void findConfirmed_scansFromOldestTrackedSlot() {
+        FakeKupo kupo = new FakeKupo();
+        KupoClient client = new KupoClient(kupo);
+        List<String> txIds = IntStream.range(0, 200).mapToObj(i -> "tx" + i).collect(Collectors.toList());
+
+        assertThat(client.findConfirmed(txIds, 100)).isEmpty();
+        assertThat(kupo.scans).containsExactly(100L);
+        assertThat(kupo.scopedLookups).hasSize(KupoClient.MAX_SCOPED_LOOKUPS_PER_BATCH);
+
+        txIds.forEach(txId -> kupo.addMatch(txId, 101));
+        assertThat(client.findConfirmed(txIds, 100)).hasSize(200);
+        assertThat(kupo.scans).containsExactly(100L, 100L);
+        assertThat(kupo.scopedLookups).hasSize(KupoClient.MAX_SCOPED_LOOKUPS_PER_BATCH);
+
+        //Confirmed txs are served from cache
+        assertThat(client.findConfirmed(txIds.subList(0, 2), 100)).hasSize(2);
+        assertThat(kupo.scans).hasSize(2);
+    }
+
+    @Test
+    void findConfirmed_continuesFromPreviousScan() {
+        FakeKupo kupo = new FakeKupo();
+        KupoClient client = new KupoClient(kupo);
+        kupo.addMatch("tx1", 105);
+
+        assertThat(client.findConfirmed(List.of("tx1", "tx2"), 100)).containsExactly("tx1");
+        kupo.addMatch("tx2", 110);
+        assertThat(client.findConfirmed(List.of("tx2", "tx3"), 102)).containsExactly("tx2");
+
+        assertThat(kupo.scans).containsExactly(100L, 105L);
+    }
+
+    @Test
+    void findConfirmed_looksUpTxConfirmedBeforeItWasTracked() {
+        FakeKupo kupo = new FakeKupo();
+        kupo.addMatch("old", 10);
+        KupoClient client = new KupoClient(kupo);
+
+        assertThat(client.findConfirmed(List.of("old"), 50)).containsExactly("old");
+        assertThat(kupo.scopedLookups).containsExactly("*@old");
+    }
+
+    @Test
+    void findConfirmed_forgetsTxsWhichAreNoLongerPending() {
+        FakeKupo kupo = new FakeKupo();
+        KupoClient client = new KupoClient(kupo);
+
+        client.findConfirmed(List.of("dropped"), 0);
+        client.findConfirmed(List.of("other"), 0);
+        client.findConfirmed(List.of("dropped"), 0);
+
+        assertThat(kupo.scopedLookups).containsExactly("*@dropped", "*@other", "*@dropped");
+    }
+
+    @Test
+    void getTransaction_cachesConfirmedTx() {
+        FakeKupo kupo = new FakeKupo();
+        kupo.addMatch("tx1", 5);
+        KupoClient client = new KupoClient(kupo);
+
+        assertThat(client.getTransaction("tx1")).hasValueSatisfying(txn ->
+                assertThat(txn.getCreatedAt().getSlotNo()).isEqualTo(5));
+        assertThat(client.getTransaction("tx1")).isPresent();
+        assertThat(client.getTransaction("tx2")).isEmpty();
+        assertThat(kupo.scopedLookups).containsExactly("*@tx1", "*@tx2");
+    }
+
+    static class FakeKupo implements MatchesApi {
+        final List<KupoTxn> matches = new ArrayList<>();
+        final List<String> scopedLookups = new ArrayList<>();
+        final List<Long> scans = new ArrayList<>();
+
+        void addMatch(String txId, long slot) {
+            KupoPoint point = new KupoPoint();
+            point.setSlotNo(slot);
+            point.setHeaderHash("block" + slot);
+
+            KupoTxn txn = new KupoTxn();
+            txn.setTransactionId(txId);
+            txn.setCreatedAt(point);
+            matches.add(txn);
+        }
+
+        @Override
+        public List<KupoTxn> getTransaction(String transactionId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<KupoTxn> getMatches(String pattern) {
+            scopedLookups.add(pattern);
+            String txId = pattern.substring(pattern.indexOf('@') + 1);
+            return matches.stream()
+                    .filter(match -> match.getTransactionId().equals(txId))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public List<KupoTxn> getMatchesCreatedAfter(String pattern, long slot) {
+            scans.add(slot);
+            return matches.stream()
+                    .filter(match -> match.getCreatedAt().getSlotNo() > slot)
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.bloxbean.cardano.yaci.test.backend.ogmios;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class OgmiosWebSocketClientTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void responsesAreMatchedById() throws Exception {
+        FakeOgmios ogmios = new FakeOgmios();
+        OgmiosWebSocketClient client = ogmios.client(10, Duration.ofSeconds(5));
+
+        List<CompletableFuture<JsonNode>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(client.request("queryLedgerState/tip", null));
+        }
+
+        //Answer in reverse order
+        FakeWebSocket ws = ogmios.connections.get(0);
+        for (int i = ws.sent.size() - 1; i >= 0; i--) {
+            long id = ws.sentId(i);
+            ogmios.listeners.get(0).onText(ws, "{\"jsonrpc\":\"2.0\",\"result\":{\"slot\":" + id + "},\"id\":" + id + "}", true);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(futures.get(i).get().path("slot").asLong()).isEqualTo(ws.sentId(i));
+        }
+        assertThat(client.getInFlightRequests()).isZero();
+    }
+
+    @Test
+    void partialMessagesAreJoined() throws Exception {
+        FakeOgmios ogmios = new FakeOgmios();
+        OgmiosWebSocketClient client = ogmios.client(10, Duration.ofSeconds(5));
+
+        CompletableFuture<String> txId = client.submitTransaction(new byte[]{1, 2});
+        FakeWebSocket ws = ogmios.connections.get(0);
+        assertThat(ws.sentMessage(0).path("params").path("transaction").path("cbor").asText()).isEqualTo("0102");
+
+        long id = ws.sentId(0);
+        ogmios.listeners.get(0).onText(ws, "{\"jsonrpc\":\"2.0\",\"result\":{\"transaction\":", false);
+        ogmios.listeners.get(0).onText(ws, "{\"id\":\"abcd\"}},\"id\":" + id + "}", true);
+
+        assertThat(txId.get()).isEqualTo("abcd");
+    }
+
+    @Test
+    void rpcErrorIsMappedToException() {
+        FakeOgmios ogmios = new FakeOgmios();
+        OgmiosWebSocketClient client = ogmios.client(10, Duration.ofSeconds(5));
+
+        CompletableFuture<String> txId = client.submitTransaction(new byte[]{1});
+        FakeWebSocket ws = ogmios.connections.get(0);
+        ogmios.listeners.get(0).onText(ws, "{\"jsonrpc\":\"2.0\",\"error\":{\"code\":3117,"
+                + "\"message\":\"Missing inputs\",\"data\":{\"unknownOutputReferences\":[]}},\"id\":" + ws.sentId(0) + "}", true);
+
+        assertThatThrownBy(txId::join)
+                .hasCauseInstanceOf(OgmiosRpcException.class)
+                .hasMessageContaining("Missing inputs");
+        OgmiosRpcException error = (OgmiosRpcException) catchThrowable(txId::join).getCause();
+        assertThat(error.getCode()).isEqualTo(3117);
+        assertThat(error.getData().has("unknownOutputReferences")).isTrue();
+    }
+
+    @Test
+    void timeoutReleasesPermit() {
+        FakeOgmios ogmios = new FakeOgmios();
+        OgmiosWebSocketClient client = ogmios.client(1, Duration.ofMillis(100));
+
+        CompletableFuture<JsonNode> first = client.request("queryLedgerState/tip", null);
+        assertThatThrownBy(first::join).hasCauseInstanceOf(TimeoutException.class);
+
+        //Blocks forever if the permit of the timed out request is not released
+        CompletableFuture<JsonNode> second = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> client.request("queryLedgerState/tip", null));
+        assertThat(second).isNotDone();
+    }
+
+    @Test
+    void sendFailureReleasesPermit() {
+        FakeOgmios ogmios = new FakeOgmios();
+        ogmios.failSends = true;
+        OgmiosWebSocketClient client = ogmios.client(1, Duration.ofSeconds(5));
+
+        assertThatThrownBy(client.request("queryLedgerState/tip", null)::join)
+                .hasRootCauseMessage("send failed");
+
+        ogmios.failSends = false;
+        CompletableFuture<JsonNode> second = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> client.request("queryLedgerState/tip", null));
+        assertThat(second).isNotDone();
+        assertThat(client.getInFlightRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void closedConnectionOnlyFailsItsOwnRequests() throws Exception {
+        FakeOgmios ogmios = new FakeOgmios();
+        OgmiosWebSocketClient client = ogmios.client(10, Duration.ofSeconds(5));
+
+        CompletableFuture<JsonNode> first = client.request("queryLedgerState/tip", null);
+        FakeWebSocket firstWs = ogmios.connections.get(0);
+        firstWs.closed = true;
+        ogmios.listeners.get(0).onClose(firstWs, 1006, "gone");
+        assertThatThrownBy(first::join).hasMessageContaining("Ogmios connection closed");
+
+        //Next request reconnects
+        CompletableFuture<JsonNode> second = client.request("queryLedgerState/tip", null);
+        assertThat(ogmios.connections).hasSize(2);
+
+        //Late error from the old connection
+        ogmios.listeners.get(0).onError(firstWs, new IllegalStateException("old connection"));
+        assertThat(second).isNotDone();
+
+        FakeWebSocket secondWs = ogmios.connections.get(1);
+        ogmios.listeners.get(1).onText(secondWs, "{\"jsonrpc\":\"2.0\",\"result\":{\"slot\":5},\"id\":" + secondWs.sentId(0) + "}", true);
+        assertThat(second.get().path("slot").asLong()).isEqualTo(5);
+    }
+
+    @Test
+    void closeFailsPendingAndRejectsNewRequests() {
+        FakeOgmios ogmios = new FakeOgmios();
+        OgmiosWebSocketClient client = ogmios.client(10, Duration.ofSeconds(5));
+
+        CompletableFuture<JsonNode> pending = client.request("queryLedgerState/tip", null);
+        client.close();
+
+        assertThatThrownBy(pending::join).hasMessageContaining("closed");
+        assertThat(ogmios.connections.get(0).closeSent).isTrue();
+        assertThatThrownBy(() -> client.request("queryLedgerState/tip", null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(ogmios.connections).hasSize(1);
+    }
+
+    static class FakeOgmios {
+        final List<WebSocket.Listener> listeners = new CopyOnWriteArrayList<>();
+        final List<FakeWebSocket> connections = new CopyOnWriteArrayList<>();
+        volatile boolean failSends;
+
+        OgmiosWebSocketClient client(int maxInFlight, Duration timeout) {
+            return new OgmiosWebSocketClient(listener -> {
+                FakeWebSocket ws = new FakeWebSocket(this);
+                listeners.add(listener);
+                connections.add(ws);
+                return ws;
+            }, maxInFlight, timeout);
+        }
+    }
+
+    static class FakeWebSocket implements WebSocket {
+        private final FakeOgmios ogmios;
+        final List<String> sent = new CopyOnWriteArrayList<>();
+        volatile boolean closed;
+        volatile boolean closeSent;
+
+        FakeWebSocket(FakeOgmios ogmios) {
+            this.ogmios = ogmios;
+        }
+
+        JsonNode sentMessage(int index) {
+            try {
+                return objectMapper.readTree(sent.get(index));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        long sentId(int index) {
+            return sentMessage(index).path("id").asLong();
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendText(CharSequence data, boolean last) {
+            if (ogmios.failSends)
+                return CompletableFuture.failedFuture(new IllegalStateException("send failed"));
+            sent.add(data.toString());
+            return CompletableFuture.completedFuture(this);
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendBinary(ByteBuffer data, boolean last) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendPing(ByteBuffer message) {
+            return CompletableFuture.completedFuture(this);
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendPong(ByteBuffer message) {
+            return CompletableFuture.completedFuture(this);
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendClose(int statusCode, String reason) {
+            closeSent = true;
+            closed = true;
+            return CompletableFuture.completedFuture(this);
+        }
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public String getSubprotocol() {
+            return "";
+        }
+
+        @Override
+        public boolean isOutputClosed() {
+            return closed;
+        }
+
+        @Override
+        public boolean isInputClosed() {
+            return closed;
+        }
+
+        @Override
+        public void abort() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.bloxbean.cardano.yaci.test.backend.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FallbackProxyTest {
+
+    @Test
+    void storeMethodsAreCalledOnStoreServiceAndFallbackIsNotCreated() {
+        AtomicInteger fallbacks = new AtomicInteger();
+        Service service = FallbackProxy.create(Service.class, new StoreService(), () -> {
+            fallbacks.incrementAndGet();
+            return new FallbackService();
+        });
+
+        assertThat(service.get("a")).isEqualTo("store-a");
+        assertThat(fallbacks).hasValue(0);
+    }
+
+    @Test
+    void defaultMethodsUseStoreMethods() {
+        Service service = FallbackProxy.create(Service.class, new StoreService(), FallbackService::new);
+
+        assertThat(service.getTwice("a")).isEqualTo("store-a,store-a");
+    }
+
+    @Test
+    void otherMethodsGoToOneLazilyCreatedFallback() {
+        AtomicInteger fallbacks = new AtomicInteger();
+        Service service = FallbackProxy.create(Service.class, new StoreService(), () -> {
+            fallbacks.incrementAndGet();
+            return new FallbackService();
+        });
+
+        assertThat(service.count("a")).isEqualTo(1);
+        assertThat(service.count("ab")).isEqualTo(2);
+        assertThat(fallbacks).hasValue(1);
+    }
+
+    @Test
+    void storeExceptionsAreNotWrapped() {
+        Service service = FallbackProxy.create(Service.class, new StoreService(), FallbackService::new);
+
+        assertThatThrownBy(() -> service.get(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    interface Service {
+        String get(String key);
+
+        int count(String key);
+
+        default String getTwice(String key) {
+            return get(key) + "," + get(key);
+        }
+    }
+
+    static class StoreService {
+        public String get(String key) {
+            if (key == null)
+                throw new IllegalArgumentException("key");
+            return "store-" + key;
+        }
+    }
+
+    static class FallbackService implements Service {
+        @Override
+        public String get(String key) {
+            return "fallback-" + key;
+        }
+
+        @Override
+        public int count(String key) {
+            return key.length();
+        }
+    }
+}
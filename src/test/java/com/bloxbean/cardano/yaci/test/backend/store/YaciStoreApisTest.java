@@ -0,0 +1,68 @@
+package com.bloxbean.cardano.yaci.test.backend.store;
+
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.fasterxml.jackson.core.type.TypeReference;
+import feign.Request;
+import feign.Response;
+import feign.codec.Decoder;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class YaciStoreApisTest {
+    private final Decoder decoder = YaciStoreApis.decoder(YaciStoreApis.objectMapper());
+
+    @Test
+    void decodesSubmittedTxHashWithOrWithoutQuotes() throws Exception {
+        assertThat(decoder.decode(response("\"a1b2\""), String.class)).isEqualTo("a1b2");
+        assertThat(decoder.decode(response("a1b2\n"), String.class)).isEqualTo("a1b2");
+    }
+
+    @Test
+    void decodesSnakeCaseUtxosAndIgnoresUnknownFields() throws Exception {
+        String json = "[{\"tx_hash\":\"9a2b\",\"output_index\":1,"
+                + "\"address\":\"addr_test1vzpwq95z3xyum8vqndgdd9mdnmafh3djcxnc6jemlgdmswcve6tkw\","
+                + "\"amount\":[{\"unit\":\"lovelace\",\"quantity\":\"5000000\"}],"
+                + "\"data_hash\":null,\"block\":\"abcd\",\"epoch\":3}]";
+
+        @SuppressWarnings("unchecked")
+        List<Utxo> utxos = (List<Utxo>) decoder.decode(response(json), new TypeReference<List<Utxo>>() {}.getType());
+
+        assertThat(utxos).hasSize(1);
+        assertThat(utxos.get(0).getTxHash()).isEqualTo("9a2b");
+        assertThat(utxos.get(0).getOutputIndex()).isEqualTo(1);
+        assertThat(utxos.get(0).getAmount().get(0).getQuantity()).isEqualTo(BigInteger.valueOf(5000000));
+    }
+
+    @Test
+    void decodesBlockTxsAsHashesOrSummaries() throws Exception {
+        Type type = new TypeReference<List<StoreBlockTx>>() {}.getType();
+
+        @SuppressWarnings("unchecked")
+        List<StoreBlockTx> hashes = (List<StoreBlockTx>) decoder.decode(response("[\"9a2b\",\"7c3d\"]"), type);
+        @SuppressWarnings("unchecked")
+        List<StoreBlockTx> summaries = (List<StoreBlockTx>) decoder.decode(
+                response("[{\"tx_hash\":\"9a2b\",\"slot\":10},{\"hash\":\"7c3d\"}]"), type);
+
+        assertThat(hashes).extracting(StoreBlockTx::getTxHash).containsExactly("9a2b", "7c3d");
+        assertThat(summaries).extracting(StoreBlockTx::getTxHash).containsExactly("9a2b", "7c3d");
+    }
+
+    private static Response response(String body) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost:8080/api/v1/",
+                Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+        return Response.builder()
+                .status(200)
+                .reason("OK")
+                .headers(Collections.emptyMap())
+                .request(request)
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.bloxbean.cardano.yaci.test.backend.store;
+
+import com.bloxbean.cardano.client.backend.model.TransactionContent;
+import com.bloxbean.cardano.yaci.test.backend.TxConfirmation;
+import com.bloxbean.cardano.yaci.test.backend.store.http.BlockApi;
+import com.bloxbean.cardano.yaci.test.backend.store.http.TransactionApi;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class YaciStoreTxStatusLookupTest {
+
+    @Test
+    void findConfirmations_matchesPendingTxsAgainstNewBlocks() {
+        FakeStore store = new FakeStore();
+        store.addBlock(100);
+        YaciStoreTxStatusLookup lookup = new YaciStoreTxStatusLookup(store, store);
+        List<String> txHashes = IntStream.range(0, 200).mapToObj(i -> "tx" + i).collect(Collectors.toList());
+
+        assertThat(lookup.findConfirmed(txHashes, 100)).isEmpty();
+        assertThat(store.txLookups).hasSize(YaciStoreTxStatusLookup.MAX_HASH_LOOKUPS_PER_BATCH);
+
+        store.addBlock(101, txHashes.toArray(new String[0]));
+        store.blockTxsReads.clear();
+        Map<String, TxConfirmation> confirmations = lookup.findConfirmations(txHashes, 100);
+
+        assertThat(confirmations).hasSize(200);
+        assertThat(confirmations.get("tx0").getBlockNumber()).isEqualTo(1);
+        assertThat(confirmations.get("tx0").getSlot()).isEqualTo(101);
+        assertThat(confirmations.get("tx0").getBlockHash()).isEqualTo("block-1");
+        //Only the new block is read, no lookup per pending tx
+        assertThat(store.blockTxsReads).containsExactly("block-1");
+        assertThat(store.txLookups).hasSize(YaciStoreTxStatusLookup.MAX_HASH_LOOKUPS_PER_BATCH);
+    }
+
+    @Test
+    void findConfirmations_readsEachBlockOnce() {
+        FakeStore store = new FakeStore();
+        store.addBlock(100);
+        YaciStoreTxStatusLookup lookup = new YaciStoreTxStatusLookup(store, store);
+
+        lookup.findConfirmed(List.of("tx1"), 100);
+        store.addBlock(101);
+        store.addBlock(102, "tx1");
+        store.addBlock(103);
+
+        assertThat(lookup.findConfirmed(List.of("tx1", "tx2"), 100)).containsExactly("tx1");
+        assertThat(lookup.findConfirmed(List.of("tx2"), 100)).isEmpty();
+        assertThat(store.blockTxsReads).containsExactly("block-0", "block-1", "block-2", "block-3");
+    }
+
+    @Test
+    void findConfirmations_walksBackToTrackedSlotOnFirstScan() {
+        FakeStore store = new FakeStore();
+        store.addBlock(100);
+        store.addBlock(101, "tx1");
+        store.addBlock(102);
+        YaciStoreTxStatusLookup lookup = new YaciStoreTxStatusLookup(store, store);
+
+        assertThat(lookup.findConfirmed(List.of("tx1"), 100)).containsExactly("tx1");
+        assertThat(store.blockTxsReads).containsExactly("block-2", "block-1", "block-0");
+        assertThat(store.txLookups).isEmpty();
+    }
+
+    @Test
+    void findConfirmations_looksUpTxConfirmedBeforeItWasTracked() {
+        FakeStore store = new FakeStore();
+        store.addBlock(10, "old");
+        store.addBlock(50);
+        YaciStoreTxStatusLookup lookup = new YaciStoreTxStatusLookup(store, store);
+
+        assertThat(lookup.findConfirmed(List.of("old"), 50)).containsExactly("old");
+        assertThat(store.txLookups).containsExactly("old");
+    }
+
+    @Test
+    void findConfirmations_servesConfirmedTxsFromCache() {
+        FakeStore store = new FakeStore();
+        store.addBlock(100, "tx1");
+        YaciStoreTxStatusLookup lookup = new YaciStoreTxStatusLookup(store, store);
+
+        lookup.findConfirmed(List.of("tx1"), 99);
+        int latestReads = store.latestReads;
+        assertThat(lookup.findConfirmed(List.of("tx1"), 99)).containsExactly("tx1");
+
+        assertThat(store.latestReads).isEqualTo(latestReads);
+        assertThat(lookup.getCachedTransactions()).isEqualTo(1);
+    }
+
+    private static class FakeStore implements BlockApi, TransactionApi {
+        private final List<StoreBlock> blocks = new ArrayList<>();
+        private final Map<String, List<String>> blockTxs = new HashMap<>();
+        private final List<String> blockTxsReads = new ArrayList<>();
+        private final List<String> txLookups = new ArrayList<>();
+        private int latestReads;
+
+        void addBlock(long slot, String... txHashes) {
+            StoreBlock block = new StoreBlock();
+            block.setHeight(blocks.size());
+            block.setHash("block-" + blocks.size());
+            block.setSlot(slot);
+            blocks.add(block);
+            blockTxs.put(block.getHash(), Arrays.asList(txHashes));
+        }
+
+        @Override
+        public StoreBlock getLatestBlock() {
+            latestReads++;
+            return blocks.isEmpty() ? null : blocks.get(blocks.size() - 1);
+        }
+
+        @Override
+        public StoreBlock getBlock(String numberOrHash) {
+            int height = Integer.parseInt(numberOrHash);
+            return height < blocks.size() ? blocks.get(height) : null;
+        }
+
+        @Override
+        public List<StoreBlockTx> getBlockTxs(String numberOrHash) {
+            blockTxsReads.add(numberOrHash);
+            return blockTxs.getOrDefault(numberOrHash, List.of()).stream()
+                    .map(StoreBlockTx::of)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public String submit(byte[] signedTxn) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TransactionContent getTransaction(String txnHash) {
+            txLookups.add(txnHash);
+            for (StoreBlock block : blocks) {
+                if (blockTxs.get(block.getHash()).contains(txnHash))
+                    return TransactionContent.builder()
+                            .hash(txnHash)
+                            .slot(block.getSlot())
+                            .blockHeight(block.getHeight())
+                            .block(block.getHash())
+                            .build();
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.bloxbean.cardano.yaci.test.junit;
+
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.yaci.test.YaciCardanoContainer;
+import com.bloxbean.cardano.yaci.test.api.helper.YaciTestHelper;
+import org.junit.jupiter.api.Test;
+
+import static com.bloxbean.cardano.client.common.ADAConversionUtil.adaToLovelace;
+import static com.bloxbean.cardano.yaci.test.api.Assertions.assertMe;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@YaciDevnet(initialFunding = YaciDevnetExtensionTest.FUNDED_ADDRESS + ":20000")
+class YaciDevnetExtensionTest {
+    static final String FUNDED_ADDRESS = "addr_test1qqp6l53xshenlc939a0q74rd09e7dva8lke0fvs3a7ld5f7y7h8vnukjnluapukncvvpxvjgg4nlwu34w3ywvzngw99sy2rpy3";
+
+    @Test
+    void initialFundingAvailable(YaciCardanoContainer container) {
+        assertThat(container.isRunning()).isTrue();
+        assertMe(container).hasLovelaceBalance(FUNDED_ADDRESS, adaToLovelace(20000));
+    }
+
+    @Test
+    void helperAndSuppliersInjected(YaciTestHelper testHelper, UtxoSupplier utxoSupplier) {
+        String receiver = "addr_test1qz3s0c370u8zzqn302nppuxl840gm6qdmjwqnxmqxme657ze964mar2m3r5jjv4qrsf62yduqns0tsw0hvzwar07qasqeamp0c";
+        testHelper.transferAda(receiver, 100);
+
+        assertThat(utxoSupplier.getAll(receiver)).isNotEmpty();
+        assertThat(testHelper.lovelaceBalance(receiver)).hasValue(adaToLovelace(100));
+    }
+
+    @Test
+    void parseFunding() {
+        YaciCardanoContainer container = YaciDevnetExtension.createContainer(
+                YaciDevnetExtensionTest.class.getAnnotation(YaciDevnet.class));
+
+        assertThat(container.getInitialFundings()).hasSize(1);
+        assertThat(container.getInitialFundings().get(0).getAddress()).isEqualTo(FUNDED_ADDRESS);
+        assertThat(container.getInitialFundings().get(0).getAdaValue()).isEqualTo(20000);
+    }
+}